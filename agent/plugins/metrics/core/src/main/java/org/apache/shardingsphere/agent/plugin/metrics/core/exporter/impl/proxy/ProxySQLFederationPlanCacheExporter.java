@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sqlfederation.advanced.AdvancedSQLFederationExecutor;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCache;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy SQL federation plan cache exporter.
+ */
+public final class ProxySQLFederationPlanCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sql_federation_plan_cache",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "SQL federation executable plan cache of ShardingSphere-Proxy. size is number of cached plans; hit_count and miss_count are cache lookups; "
+                    + "load_count and total_load_time_nanos are planning of missed queries; eviction_count is number of evicted plans",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        Optional<SQLFederationPlanCache> planCache = findPlanCache();
+        if (!planCache.isPresent()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        CacheStats stats = planCache.get().getStats();
+        result.addMetric(Collections.singletonList("size"), planCache.get().getSize());
+        result.addMetric(Collections.singletonList("hit_count"), stats.hitCount());
+        result.addMetric(Collections.singletonList("miss_count"), stats.missCount());
+        result.addMetric(Collections.singletonList("load_count"), stats.loadCount());
+        result.addMetric(Collections.singletonList("total_load_time_nanos"), stats.totalLoadTime());
+        result.addMetric(Collections.singletonList("eviction_count"), stats.evictionCount());
+        return Optional.of(result);
+    }
+    
+    private Optional<SQLFederationPlanCache> findPlanCache() {
+        Optional<SQLFederationRule> rule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(SQLFederationRule.class);
+        if (!rule.isPresent()) {
+            return Optional.empty();
+        }
+        SQLFederationExecutor executor = rule.get().getCurrentSQLFederationExecutor();
+        return executor instanceof AdvancedSQLFederationExecutor ? ((AdvancedSQLFederationExecutor) executor).getPlanCache() : Optional.empty();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.runtime.Bindable;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sqlfederation.advanced.AdvancedSQLFederationExecutor;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCache;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCacheValue;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+public final class ProxySQLFederationPlanCacheExporterTest {
+    
+    @AfterEach
+    public void reset() {
+        MetricConfiguration config = new MetricConfiguration("proxy_sql_federation_plan_cache", MetricCollectorType.GAUGE_METRIC_FAMILY, null, Collections.singletonList("name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    public void assertExportWithoutContextManager() {
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(null);
+        assertFalse(new ProxySQLFederationPlanCacheExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    public void assertExportWithoutPlanCache() {
+        ContextManager contextManager = mockContextManager(mock(SQLFederationExecutor.class));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        assertFalse(new ProxySQLFederationPlanCacheExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    public void assertExportWithPlanCache() {
+        AdvancedSQLFederationExecutor executor = mock(AdvancedSQLFederationExecutor.class);
+        when(executor.getPlanCache()).thenReturn(Optional.of(createPlanCache()));
+        ContextManager contextManager = mockContextManager(executor);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new ProxySQLFederationPlanCacheExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), is("size=1, hit_count=1, miss_count=1, load_count=1, total_load_time_nanos=10, eviction_count=0"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLFederationPlanCache createPlanCache() {
+        SQLFederationPlanCache result = new SQLFederationPlanCache(1);
+        SQLFederationPlanCacheKey key = new SQLFederationPlanCacheKey("SELECT * FROM t_order", "foo_db", "foo_db", 1L);
+        result.get(key);
+        result.recordPlanning(10L);
+        result.put(key, new SQLFederationPlanCacheValue(mock(Bindable.class), mock(RelDataType.class)));
+        result.get(key);
+        return result;
+    }
+    
+    private ContextManager mockContextManager(final SQLFederationExecutor executor) {
+        SQLFederationRule rule = mock(SQLFederationRule.class);
+        when(rule.getCurrentSQLFederationExecutor()).thenReturn(executor);
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaDataContexts().getMetaData().getGlobalRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(Collections.singleton(rule)));
+        return result;
+    }
+}
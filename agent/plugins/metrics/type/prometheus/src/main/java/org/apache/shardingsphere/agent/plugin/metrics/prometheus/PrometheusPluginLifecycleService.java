@@ -26,6 +26,7 @@ import org.apache.shardingsphere.agent.api.PluginConfiguration;
 import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfigurationValidator;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxySQLFederationPlanCacheExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
 import org.apache.shardingsphere.agent.spi.PluginLifecycleService;
@@ -65,6 +66,7 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
         if (isEnhancedForProxy) {
             new PrometheusMetricsExporter(new ProxyStateExporter()).register();
             new PrometheusMetricsExporter(new ProxyMetaDataInfoExporter()).register();
+            new PrometheusMetricsExporter(new ProxySQLFederationPlanCacheExporter()).register();
         }
         if (isCollectJVMInformation) {
             DefaultExports.initialize();
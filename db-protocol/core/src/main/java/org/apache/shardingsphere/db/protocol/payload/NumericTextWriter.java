@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Numeric text writer, which writes decimal text of integral numbers into byte buffers without creating intermediate strings.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NumericTextWriter {
+    
+    private static final int MIN_LONG_TEXT_LENGTH = 20;
+    
+    /**
+     * Get length of decimal text.
+     *
+     * @param value value
+     * @return length of decimal text
+     */
+    public static int getLength(final long value) {
+        if (Long.MIN_VALUE == value) {
+            return MIN_LONG_TEXT_LENGTH;
+        }
+        int result = value < 0 ? 2 : 1;
+        long remaining = Math.abs(value);
+        while (remaining >= 10) {
+            remaining /= 10;
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write decimal text to byte buffers.
+     *
+     * @param byteBuf byte buffers
+     * @param value value
+     */
+    public static void write(final ByteBuf byteBuf, final long value) {
+        if (Long.MIN_VALUE == value) {
+            byteBuf.writeCharSequence(Long.toString(value), StandardCharsets.US_ASCII);
+            return;
+        }
+        int length = getLength(value);
+        byteBuf.ensureWritable(length);
+        int writerIndex = byteBuf.writerIndex();
+        if (value < 0) {
+            byteBuf.setByte(writerIndex, '-');
+        }
+        long remaining = Math.abs(value);
+        int index = writerIndex + length - 1;
+        do {
+            byteBuf.setByte(index--, '0' + (int) (remaining % 10));
+            remaining /= 10;
+        } while (remaining > 0);
+        byteBuf.writerIndex(writerIndex + length);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class NumericTextWriterTest {
+    
+    @Test
+    public void assertGetLength() {
+        assertThat(NumericTextWriter.getLength(0L), is(1));
+        assertThat(NumericTextWriter.getLength(10L), is(2));
+        assertThat(NumericTextWriter.getLength(-10L), is(3));
+        assertThat(NumericTextWriter.getLength(Long.MAX_VALUE), is(19));
+        assertThat(NumericTextWriter.getLength(Long.MIN_VALUE), is(20));
+    }
+    
+    @Test
+    public void assertWrite() {
+        assertWrite(0L);
+        assertWrite(7L);
+        assertWrite(-1024L);
+        assertWrite(Long.MAX_VALUE);
+        assertWrite(Long.MIN_VALUE);
+    }
+    
+    private void assertWrite(final long value) {
+        ByteBuf byteBuf = Unpooled.buffer(1);
+        byteBuf.writeByte('x');
+        NumericTextWriter.write(byteBuf, value);
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("x" + value));
+    }
+}
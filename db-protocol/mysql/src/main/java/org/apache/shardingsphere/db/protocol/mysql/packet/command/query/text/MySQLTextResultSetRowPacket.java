@@ -57,7 +57,9 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             if (null == each) {
                 payload.writeInt1(NULL);
             } else {
-                if (each instanceof byte[]) {
+                if (each instanceof Integer || each instanceof Long || each instanceof Short || each instanceof Byte) {
+                    payload.writeNumericStringLenenc(((Number) each).longValue());
+                } else if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
                 } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
                     payload.writeStringLenenc(each.toString().split("\\.")[0]);
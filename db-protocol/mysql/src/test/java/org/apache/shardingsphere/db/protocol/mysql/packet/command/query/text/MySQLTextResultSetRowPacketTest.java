@@ -63,6 +63,16 @@ public final class MySQLTextResultSetRowPacketTest {
         }
     }
     
+    @Test
+    public void assertWriteIntegralNumbers() {
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(1, 2L, (short) 3, (byte) 4));
+        actual.write(payload);
+        verify(payload).writeNumericStringLenenc(1L);
+        verify(payload).writeNumericStringLenenc(2L);
+        verify(payload).writeNumericStringLenenc(3L);
+        verify(payload).writeNumericStringLenenc(4L);
+    }
+    
     @Test
     public void assertTimestampWithoutNanos() {
         long now = System.currentTimeMillis() / 1000 * 1000;
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -202,11 +203,27 @@ public final class MySQLPacketPayloadTest {
     
     @Test
     public void assertWriteStringLenenc() {
-        new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).writeStringLenenc("value");
+        new MySQLPacketPayload(byteBuf, StandardCharsets.ISO_8859_1).writeStringLenenc("value");
         verify(byteBuf).writeByte(5);
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    public void assertWriteStringLenencWithUTF8() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeStringLenenc("值value");
+        assertThat(actual.readUnsignedByte(), is((short) 8));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("值value"));
+    }
+    
+    @Test
+    public void assertWriteNumericStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeNumericStringLenenc(-123L);
+        assertThat(actual.readUnsignedByte(), is((short) 4));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("-123"));
+    }
+    
     @Test
     public void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
@@ -71,10 +71,10 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
             payload.writeBytes((byte[]) each);
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
+        } else if (each instanceof Integer || each instanceof Long || each instanceof Short) {
+            payload.writeLengthPrefixedNumericString(((Number) each).longValue());
         } else {
-            byte[] columnData = each.toString().getBytes(payload.getCharset());
-            payload.writeInt4(columnData.length);
-            payload.writeBytes(columnData);
+            payload.writeLengthPrefixedString(each.toString());
         }
     }
     
@@ -18,15 +18,17 @@
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.util.LinkedList;
 import java.util.List;
 import java.util.RandomAccess;
 
@@ -34,69 +36,66 @@ import java.util.RandomAccess;
 @ToString
 public final class PostgreSQLAggregatedCommandPacket extends PostgreSQLCommandPacket {
     
-    private final List<PostgreSQLCommandPacket> packets;
+    private static final int MIN_BATCHED_STATEMENTS_TIMES = 3;
     
-    private final boolean containsBatchedStatements;
+    private final List<PostgreSQLCommandPacket> packets;
     
-    private final int firstBindIndex;
+    private final List<Range<Integer>> batchedStatementsRanges;
     
-    private final int lastExecuteIndex;
+    private final boolean containsBatchedStatements;
     
     public PostgreSQLAggregatedCommandPacket(final List<PostgreSQLCommandPacket> packets) {
         this.packets = packets;
-        int parseTimes = 0;
-        int firstStatementBindTimes = 0;
-        int firstStatementExecuteTimes = 0;
-        String firstStatement = null;
-        String firstPortal = null;
+        batchedStatementsRanges = findBatchedStatementsRanges(packets);
+        if (this.containsBatchedStatements = !batchedStatementsRanges.isEmpty()) {
+            ensureRandomAccessible(packets);
+        }
+    }
+    
+    private List<Range<Integer>> findBatchedStatementsRanges(final List<PostgreSQLCommandPacket> packets) {
+        List<Range<Integer>> result = new LinkedList<>();
         int index = 0;
-        int firstBindIndex = -1;
-        int lastExecuteIndex = -1;
-        for (PostgreSQLCommandPacket each : packets) {
-            if (each instanceof PostgreSQLComParsePacket) {
-                if (++parseTimes > 1) {
-                    break;
-                }
-                if (null == firstStatement) {
-                    firstStatement = ((PostgreSQLComParsePacket) each).getStatementId();
-                } else if (!firstStatement.equals(((PostgreSQLComParsePacket) each).getStatementId())) {
-                    break;
-                }
+        while (index < packets.size()) {
+            int lastExecuteIndex = packets.get(index) instanceof PostgreSQLComBindPacket ? findLastExecuteIndexOfBatchedStatements(packets, index) : -1;
+            if (-1 == lastExecuteIndex) {
+                index++;
+            } else {
+                result.add(Range.closed(index, lastExecuteIndex));
+                index = lastExecuteIndex + 1;
             }
+        }
+        return result;
+    }
+    
+    private int findLastExecuteIndexOfBatchedStatements(final List<PostgreSQLCommandPacket> packets, final int firstBindIndex) {
+        PostgreSQLComBindPacket firstBindPacket = (PostgreSQLComBindPacket) packets.get(firstBindIndex);
+        int executeTimes = 0;
+        int lastExecuteIndex = -1;
+        boolean bound = false;
+        int index = firstBindIndex;
+        for (PostgreSQLCommandPacket each : packets.subList(firstBindIndex, packets.size())) {
             if (each instanceof PostgreSQLComBindPacket) {
-                if (-1 == firstBindIndex) {
-                    firstBindIndex = index;
-                }
-                if (null == firstStatement) {
-                    firstStatement = ((PostgreSQLComBindPacket) each).getStatementId();
-                } else if (!firstStatement.equals(((PostgreSQLComBindPacket) each).getStatementId())) {
+                if (bound || !isSameStatementAndPortal(firstBindPacket, (PostgreSQLComBindPacket) each)) {
                     break;
                 }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComBindPacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComBindPacket) each).getPortal())) {
+                bound = true;
+            } else if (each instanceof PostgreSQLComExecutePacket) {
+                if (!bound || !firstBindPacket.getPortal().equals(((PostgreSQLComExecutePacket) each).getPortal())) {
                     break;
                 }
-                firstStatementBindTimes++;
-            }
-            if (each instanceof PostgreSQLComExecutePacket) {
-                if (index > lastExecuteIndex) {
-                    lastExecuteIndex = index;
-                }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComExecutePacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComExecutePacket) each).getPortal())) {
-                    break;
-                }
-                firstStatementExecuteTimes++;
+                bound = false;
+                executeTimes++;
+                lastExecuteIndex = index;
+            } else if (!(each instanceof PostgreSQLComDescribePacket)) {
+                break;
             }
             index++;
         }
-        this.firstBindIndex = firstBindIndex;
-        this.lastExecuteIndex = lastExecuteIndex;
-        if (this.containsBatchedStatements = firstStatementBindTimes == firstStatementExecuteTimes && firstStatementBindTimes >= 3) {
-            ensureRandomAccessible(packets);
-        }
+        return executeTimes >= MIN_BATCHED_STATEMENTS_TIMES ? lastExecuteIndex : -1;
+    }
+    
+    private boolean isSameStatementAndPortal(final PostgreSQLComBindPacket firstBindPacket, final PostgreSQLComBindPacket bindPacket) {
+        return firstBindPacket.getStatementId().equals(bindPacket.getStatementId()) && firstBindPacket.getPortal().equals(bindPacket.getPortal());
     }
     
     private void ensureRandomAccessible(final List<PostgreSQLCommandPacket> packets) {
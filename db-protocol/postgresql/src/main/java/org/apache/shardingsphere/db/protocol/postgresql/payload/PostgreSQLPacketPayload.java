@@ -18,12 +18,15 @@
 package org.apache.shardingsphere.db.protocol.postgresql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.payload.NumericTextWriter;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Payload operation for PostgreSQL packet data types.
@@ -158,6 +161,33 @@ public final class PostgreSQLPacketPayload implements PacketPayload {
         byteBuf.writeBytes(value.getBytes(charset));
     }
     
+    /**
+     * Write string with 4 byte fixed length prefix to byte buffers.
+     *
+     * @param value string
+     */
+    public void writeLengthPrefixedString(final String value) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            int length = ByteBufUtil.utf8Bytes(value);
+            byteBuf.writeInt(length);
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, length);
+            return;
+        }
+        byte[] valueBytes = value.getBytes(charset);
+        byteBuf.writeInt(valueBytes.length);
+        byteBuf.writeBytes(valueBytes);
+    }
+    
+    /**
+     * Write string of integral number with 4 byte fixed length prefix to byte buffers.
+     *
+     * @param value integral number
+     */
+    public void writeLengthPrefixedNumericString(final long value) {
+        byteBuf.writeInt(NumericTextWriter.getLength(value));
+        NumericTextWriter.write(byteBuf, value);
+    }
+    
     /**
      * Skip reserved from byte buffers.
      * 
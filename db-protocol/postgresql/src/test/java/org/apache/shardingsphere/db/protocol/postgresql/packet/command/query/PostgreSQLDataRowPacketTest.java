@@ -32,6 +32,7 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -87,9 +88,16 @@ public final class PostgreSQLDataRowPacketTest {
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList("value"));
         assertThat(actual.getData(), is(Collections.singletonList("value")));
         actual.write(payload);
-        byte[] valueBytes = "value".getBytes(StandardCharsets.UTF_8);
-        verify(payload).writeInt4(valueBytes.length);
-        verify(payload).writeBytes(valueBytes);
+        verify(payload).writeLengthPrefixedString("value");
+    }
+    
+    @Test
+    public void assertWriteWithIntegralNumber() {
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Arrays.asList(1, 2L, (short) 3));
+        actual.write(payload);
+        verify(payload).writeLengthPrefixedNumericString(1L);
+        verify(payload).writeLengthPrefixedNumericString(2L);
+        verify(payload).writeLengthPrefixedNumericString(3L);
     }
     
     @Test
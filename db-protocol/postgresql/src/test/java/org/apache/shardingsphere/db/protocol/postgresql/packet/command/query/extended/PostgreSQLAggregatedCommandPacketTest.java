@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLAggregatedCommandPacketTest {
+    
+    @Test
+    public void assertNotContainsBatchedStatements() {
+        PostgreSQLComBindPacket bindPacket = mockBindPacket("S_1");
+        PostgreSQLComExecutePacket executePacket = mockExecutePacket();
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(new ArrayList<>(Arrays.<PostgreSQLCommandPacket>asList(
+                mock(PostgreSQLComParsePacket.class), bindPacket, executePacket, bindPacket, executePacket, mock(PostgreSQLComSyncPacket.class))));
+        assertFalse(actual.isContainsBatchedStatements());
+        assertTrue(actual.getBatchedStatementsRanges().isEmpty());
+    }
+    
+    @Test
+    public void assertContainsBatchedStatementsOfMultipleStatements() {
+        PostgreSQLComBindPacket firstBindPacket = mockBindPacket("S_1");
+        PostgreSQLComBindPacket secondBindPacket = mockBindPacket("S_2");
+        PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
+        PostgreSQLComExecutePacket executePacket = mockExecutePacket();
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(new ArrayList<>(Arrays.<PostgreSQLCommandPacket>asList(
+                mock(PostgreSQLComParsePacket.class), firstBindPacket, describePacket, executePacket, firstBindPacket, executePacket, firstBindPacket, executePacket,
+                mock(PostgreSQLComParsePacket.class), secondBindPacket, executePacket, secondBindPacket, executePacket, secondBindPacket, executePacket,
+                mock(PostgreSQLComSyncPacket.class))));
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchedStatementsRanges(), is(Arrays.asList(Range.closed(1, 7), Range.closed(9, 14))));
+    }
+    
+    @Test
+    public void assertContainsBatchedStatementsAfterUnexecutedBind() {
+        PostgreSQLComBindPacket bindPacket = mockBindPacket("S_1");
+        PostgreSQLComExecutePacket executePacket = mockExecutePacket();
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(new ArrayList<>(Arrays.<PostgreSQLCommandPacket>asList(
+                mock(PostgreSQLComParsePacket.class), bindPacket, bindPacket, executePacket, bindPacket, executePacket, bindPacket, executePacket,
+                mock(PostgreSQLComSyncPacket.class))));
+        assertThat(actual.getBatchedStatementsRanges(), is(Arrays.asList(Range.closed(2, 7))));
+    }
+    
+    @Test
+    public void assertContainsBatchedStatementsOfStatementNotParsedInPipeline() {
+        PostgreSQLComBindPacket bindPacket = mockBindPacket("S_1");
+        PostgreSQLComExecutePacket executePacket = mockExecutePacket();
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(new ArrayList<>(Arrays.<PostgreSQLCommandPacket>asList(
+                bindPacket, executePacket, bindPacket, executePacket, bindPacket, executePacket, mock(PostgreSQLComSyncPacket.class))));
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchedStatementsRanges(), is(Arrays.asList(Range.closed(0, 5))));
+    }
+    
+    private PostgreSQLComBindPacket mockBindPacket(final String statementId) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getStatementId()).thenReturn(statementId);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+    
+    private PostgreSQLComExecutePacket mockExecutePacket() {
+        PostgreSQLComExecutePacket result = mock(PostgreSQLComExecutePacket.class);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+}
@@ -55,4 +55,17 @@ public class PostgreSQLPacketPayloadTest {
         assertThat(payload.getByteBuf(), is(byteBuf));
         payload.close();
     }
+    
+    @Test
+    public void assertWriteLengthPrefixedString() {
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(16, 128);
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        payload.writeLengthPrefixedString("值value");
+        assertThat(payload.readInt4(), is(8));
+        assertThat(byteBuf.readCharSequence(8, StandardCharsets.UTF_8).toString(), is("值value"));
+        payload.writeLengthPrefixedNumericString(-123L);
+        assertThat(payload.readInt4(), is(4));
+        assertThat(byteBuf.readCharSequence(4, StandardCharsets.UTF_8).toString(), is("-123"));
+        payload.close();
+    }
 }
@@ -22,6 +22,8 @@ import groovy.util.Expando;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingExpressionCompiler;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingExpressionEvaluator;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.MismatchedComplexInlineShardingAlgorithmColumnAndValueSizeException;
@@ -34,6 +36,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -54,11 +57,14 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private boolean allowRangeQuery;
     
+    private InlineShardingExpressionEvaluator compiledExpression;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
+        compiledExpression = InlineShardingExpressionCompiler.compile(algorithmExpression).orElse(null);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -91,6 +97,12 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     }
     
     private String doSharding(final Map<String, Comparable<?>> shardingValues) {
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(shardingValues::get);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Closure<?> closure = createClosure();
         for (Entry<String, Comparable<?>> entry : shardingValues.entrySet()) {
             closure.setProperty(entry.getKey(), entry.getValue());
@@ -21,11 +21,14 @@ import groovy.lang.Closure;
 import groovy.util.Expando;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingExpressionCompiler;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingExpressionEvaluator;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingAlgorithmInitializationException;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -42,9 +45,12 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private InlineShardingExpressionEvaluator compiledExpression;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        compiledExpression = InlineShardingExpressionCompiler.compile(algorithmExpression).orElse(null);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -59,6 +65,12 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     }
     
     private String doSharding(final Comparable<?> shardingValue) {
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(variableName -> HINT_INLINE_VALUE_PROPERTY_NAME.equals(variableName) ? shardingValue : null);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Closure<?> closure = createClosure();
         closure.setProperty(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue);
         return closure.call().toString();
@@ -46,10 +46,13 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private InlineShardingExpressionEvaluator compiledExpression;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         allowRangeQuery = isAllowRangeQuery(props);
+        compiledExpression = InlineShardingExpressionCompiler.compile(algorithmExpression).orElse(null);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -65,10 +68,17 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
+        String columnName = shardingValue.getColumnName();
         Comparable<?> value = shardingValue.getValue();
-        closure.setProperty(shardingValue.getColumnName(), value);
-        return getTargetShardingNode(closure, shardingValue.getColumnName());
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(variableName -> columnName.equals(variableName) ? value : null);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Closure<?> closure = createClosure();
+        closure.setProperty(columnName, value);
+        return getTargetShardingNode(closure, columnName);
     }
     
     @Override
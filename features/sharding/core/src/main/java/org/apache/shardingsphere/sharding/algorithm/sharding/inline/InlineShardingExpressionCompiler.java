@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline sharding expression compiler.
+ * 
+ * <p>Compile inline expression like {@code t_order_${order_id % 4}} into Java evaluator.
+ * Only integer literals, variables, parentheses, {@code + - * %}, unary minus, {@code Math.abs(...)}, {@code .abs()} and {@code .hashCode()} are supported,
+ * other expressions should be evaluated by Groovy.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineShardingExpressionCompiler {
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression, placeholders should be handled already
+     * @return compiled inline sharding expression evaluator, empty if inline expression is not supported
+     */
+    public static Optional<InlineShardingExpressionEvaluator> compile(final String inlineExpression) {
+        List<InlineShardingExpressionEvaluator.Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            char current = inlineExpression.charAt(index);
+            if ('"' == current || '\\' == current) {
+                return Optional.empty();
+            }
+            if ('$' != current) {
+                literal.append(current);
+                index++;
+                continue;
+            }
+            if (index + 1 >= inlineExpression.length() || '{' != inlineExpression.charAt(index + 1)) {
+                return Optional.empty();
+            }
+            int endIndex = inlineExpression.indexOf('}', index + 2);
+            if (-1 == endIndex) {
+                return Optional.empty();
+            }
+            if (literal.length() > 0) {
+                segments.add(InlineShardingExpressionEvaluator.literal(literal.toString()));
+                literal.setLength(0);
+            }
+            Optional<InlineShardingExpressionEvaluator.Segment> segment = new ExpressionParser(inlineExpression.substring(index + 2, endIndex)).parse();
+            if (!segment.isPresent()) {
+                return Optional.empty();
+            }
+            segments.add(segment.get());
+            index = endIndex + 1;
+        }
+        if (literal.length() > 0) {
+            segments.add(InlineShardingExpressionEvaluator.literal(literal.toString()));
+        }
+        return Optional.of(new InlineShardingExpressionEvaluator(segments.toArray(new InlineShardingExpressionEvaluator.Segment[0])));
+    }
+    
+    private static final class ExpressionParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        private boolean failed;
+        
+        ExpressionParser(final String expression) {
+            this.expression = expression;
+        }
+        
+        Optional<InlineShardingExpressionEvaluator.Segment> parse() {
+            InlineShardingExpressionEvaluator.Node result = parseAdditive();
+            skipWhitespaces();
+            if (failed || null == result || position != expression.length()) {
+                return Optional.empty();
+            }
+            return Optional.of(InlineShardingExpressionEvaluator.expression(result));
+        }
+        
+        private InlineShardingExpressionEvaluator.Node parseAdditive() {
+            InlineShardingExpressionEvaluator.Node result = parseMultiplicative();
+            while (!failed) {
+                char operator = peek();
+                if ('+' != operator && '-' != operator) {
+                    break;
+                }
+                position++;
+                result = InlineShardingExpressionEvaluator.binary(operator, result, parseMultiplicative());
+            }
+            return result;
+        }
+        
+        private InlineShardingExpressionEvaluator.Node parseMultiplicative() {
+            InlineShardingExpressionEvaluator.Node result = parseUnary();
+            while (!failed) {
+                char operator = peek();
+                if ('*' != operator && '%' != operator) {
+                    break;
+                }
+                position++;
+                result = InlineShardingExpressionEvaluator.binary(operator, result, parseUnary());
+            }
+            return result;
+        }
+        
+        private InlineShardingExpressionEvaluator.Node parseUnary() {
+            if ('-' == peek()) {
+                position++;
+                return InlineShardingExpressionEvaluator.negate(parseUnary());
+            }
+            return parsePostfix(parsePrimary());
+        }
+        
+        private InlineShardingExpressionEvaluator.Node parsePostfix(final InlineShardingExpressionEvaluator.Node node) {
+            InlineShardingExpressionEvaluator.Node result = node;
+            while (!failed && '.' == peek()) {
+                position++;
+                String method = readIdentifier();
+                if (!consume('(') || !consume(')')) {
+                    return fail();
+                }
+                if ("abs".equals(method)) {
+                    result = InlineShardingExpressionEvaluator.abs(result);
+                } else if ("hashCode".equals(method)) {
+                    result = InlineShardingExpressionEvaluator.hashCode(result);
+                } else {
+                    return fail();
+                }
+            }
+            return result;
+        }
+        
+        private InlineShardingExpressionEvaluator.Node parsePrimary() {
+            char current = peek();
+            if ('(' == current) {
+                position++;
+                InlineShardingExpressionEvaluator.Node result = parseAdditive();
+                return consume(')') ? result : fail();
+            }
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            if (Character.isJavaIdentifierStart(current)) {
+                String identifier = readIdentifier();
+                if ("Math".equals(identifier) && '.' == peek()) {
+                    position++;
+                    if (!"abs".equals(readIdentifier()) || !consume('(')) {
+                        return fail();
+                    }
+                    InlineShardingExpressionEvaluator.Node result = parseAdditive();
+                    return consume(')') ? InlineShardingExpressionEvaluator.abs(result) : fail();
+                }
+                return InlineShardingExpressionEvaluator.variable(identifier);
+            }
+            return fail();
+        }
+        
+        private InlineShardingExpressionEvaluator.Node parseNumber() {
+            int startIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && (Character.isJavaIdentifierPart(expression.charAt(position)) || '.' == expression.charAt(position))) {
+                return fail();
+            }
+            String number = expression.substring(startIndex, position);
+            if (number.length() > 1 && '0' == number.charAt(0) || number.length() > 18) {
+                return fail();
+            }
+            long value = Long.parseLong(number);
+            return InlineShardingExpressionEvaluator.constant(value <= Integer.MAX_VALUE ? (Number) (int) value : (Number) value);
+        }
+        
+        private String readIdentifier() {
+            skipWhitespaces();
+            int startIndex = position;
+            if (position < expression.length() && Character.isJavaIdentifierStart(expression.charAt(position))) {
+                position++;
+                while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                    position++;
+                }
+            }
+            return expression.substring(startIndex, position);
+        }
+        
+        private boolean consume(final char expected) {
+            if (expected != peek()) {
+                return false;
+            }
+            position++;
+            return true;
+        }
+        
+        private char peek() {
+            skipWhitespaces();
+            return position < expression.length() ? expression.charAt(position) : 0;
+        }
+        
+        private void skipWhitespaces() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+        
+        private InlineShardingExpressionEvaluator.Node fail() {
+            failed = true;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Inline sharding expression evaluator compiled by {@link InlineShardingExpressionCompiler}.
+ * 
+ * <p>Arithmetic follows Groovy semantics for {@link Integer} and {@link Long} values.
+ * If a variable is absent or its value is not supported, evaluation returns empty and the caller should evaluate with Groovy.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class InlineShardingExpressionEvaluator {
+    
+    private final Segment[] segments;
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variable name and value mapping function, which returns null if variable is absent
+     * @return evaluated result, empty if the expression can not be evaluated without Groovy
+     */
+    public Optional<String> evaluate(final Function<String, Object> variables) {
+        StringBuilder result = new StringBuilder();
+        for (Segment each : segments) {
+            if (!each.append(variables, result)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(result.toString());
+    }
+    
+    static Segment literal(final String text) {
+        return (variables, result) -> {
+            result.append(text);
+            return true;
+        };
+    }
+    
+    static Segment expression(final Node node) {
+        if (node instanceof VariableNode) {
+            String name = ((VariableNode) node).name;
+            return (variables, result) -> {
+                Object value = variables.apply(name);
+                if (value instanceof String || isIntegral(value)) {
+                    result.append(value);
+                    return true;
+                }
+                return false;
+            };
+        }
+        return (variables, result) -> {
+            Number value = node.evaluate(variables);
+            if (null == value) {
+                return false;
+            }
+            result.append(value);
+            return true;
+        };
+    }
+    
+    static Node constant(final Number value) {
+        return variables -> value;
+    }
+    
+    static Node variable(final String name) {
+        return new VariableNode(name);
+    }
+    
+    static Node negate(final Node node) {
+        return variables -> {
+            Number value = node.evaluate(variables);
+            if (value instanceof Long) {
+                return -value.longValue();
+            }
+            return null == value ? null : -value.intValue();
+        };
+    }
+    
+    static Node abs(final Node node) {
+        return variables -> {
+            Number value = node.evaluate(variables);
+            if (value instanceof Long) {
+                return Math.abs(value.longValue());
+            }
+            return null == value ? null : Math.abs(value.intValue());
+        };
+    }
+    
+    static Node hashCode(final Node node) {
+        if (node instanceof VariableNode) {
+            String name = ((VariableNode) node).name;
+            return variables -> {
+                Object value = variables.apply(name);
+                return null == value ? null : value.hashCode();
+            };
+        }
+        return variables -> {
+            Number value = node.evaluate(variables);
+            return null == value ? null : value.hashCode();
+        };
+    }
+    
+    static Node binary(final char operator, final Node left, final Node right) {
+        return variables -> {
+            Number leftValue = left.evaluate(variables);
+            Number rightValue = null == leftValue ? null : right.evaluate(variables);
+            if (null == rightValue) {
+                return null;
+            }
+            if (leftValue instanceof Long || rightValue instanceof Long) {
+                return calculate(operator, leftValue.longValue(), rightValue.longValue());
+            }
+            return calculate(operator, leftValue.intValue(), rightValue.intValue());
+        };
+    }
+    
+    private static Long calculate(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return 0L == right ? null : left % right;
+        }
+    }
+    
+    private static Integer calculate(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return 0 == right ? null : left % right;
+        }
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    interface Segment {
+        
+        boolean append(Function<String, Object> variables, StringBuilder result);
+    }
+    
+    interface Node {
+        
+        Number evaluate(Function<String, Object> variables);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public Number evaluate(final Function<String, Object> variables) {
+            Object value = variables.apply(name);
+            if (value instanceof Integer || value instanceof Long) {
+                return (Number) value;
+            }
+            return value instanceof Short || value instanceof Byte ? ((Number) value).intValue() : null;
+        }
+    }
+}
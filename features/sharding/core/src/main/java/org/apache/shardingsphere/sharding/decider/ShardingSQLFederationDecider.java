@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.decider;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.decider.SQLFederationDecider;
 import org.apache.shardingsphere.infra.binder.decider.context.SQLFederationDeciderContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -29,8 +30,10 @@ import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditi
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -51,7 +54,11 @@ public final class ShardingSQLFederationDecider implements SQLFederationDecider<
         if (shardingConditions.isNeedMerge() && shardingConditions.isSameShardingCondition()) {
             return;
         }
-        if (select.isContainsSubquery() || select.isContainsHaving() || select.isContainsCombine() || select.isContainsPartialDistinctAggregation()) {
+        if (select.isContainsSubquery() || select.isContainsCombine() || select.isContainsPartialDistinctAggregation()) {
+            deciderContext.setUseSQLFederation(true);
+            return;
+        }
+        if (select.isContainsHaving() && !isGroupedInSingleDataNode(select, rule, tableNames)) {
             deciderContext.setUseSQLFederation(true);
             return;
         }
@@ -62,6 +69,20 @@ public final class ShardingSQLFederationDecider implements SQLFederationDecider<
         deciderContext.setUseSQLFederation(tableNames.size() > 1 && !allBindingTables);
     }
     
+    private static boolean isGroupedInSingleDataNode(final SelectStatementContext select, final ShardingRule rule, final Collection<String> tableNames) {
+        if (tableNames.size() > 1 && !rule.isAllBindingTables(tableNames)) {
+            return false;
+        }
+        Collection<String> groupByColumnNames = new LinkedList<>();
+        for (OrderByItem each : select.getGroupByContext().getItems()) {
+            if (!(each.getSegment() instanceof ColumnOrderByItemSegment)) {
+                return false;
+            }
+            groupByColumnNames.add(((ColumnOrderByItemSegment) each.getSegment()).getColumn().getIdentifier().getValue());
+        }
+        return !groupByColumnNames.isEmpty() && tableNames.stream().anyMatch(each -> rule.isAllShardingColumnsContained(each, groupByColumnNames));
+    }
+    
     private static void addTableDataNodes(final SQLFederationDeciderContext deciderContext, final ShardingRule rule, final Collection<String> tableNames) {
         for (String each : tableNames) {
             rule.findTableRule(each).ifPresent(optional -> deciderContext.getDataNodes().addAll(optional.getActualDataNodes()));
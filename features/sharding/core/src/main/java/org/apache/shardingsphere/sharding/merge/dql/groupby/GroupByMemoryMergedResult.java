@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.collect.Maps;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
@@ -40,12 +41,12 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
@@ -61,46 +62,56 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        List<List<Comparable<?>>> aggregationValues = createAggregationValues(aggregationProjections);
+        Map<GroupByValue, GroupByMemoryRow> groupByRows = new HashMap<>(1024);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                GroupByMemoryRow groupByRow = groupByRows.get(groupByValue);
+                if (null == groupByRow) {
+                    groupByRow = new GroupByMemoryRow(new MemoryQueryResultRow(each), createAggregationUnits(aggregationProjections));
+                    groupByRows.put(groupByValue, groupByRow);
+                }
+                aggregate(each, aggregationProjections, aggregationValues, groupByRow.getAggregationUnits());
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
+        List<MemoryQueryResultRow> dataRows = getAggregatedMemoryRows(aggregationProjections, groupByRows.values());
         List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return getMemoryResultSetRows(selectStatementContext, dataRows, valueCaseSensitive);
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private List<List<Comparable<?>>> createAggregationValues(final List<AggregationProjection> aggregationProjections) {
+        List<List<Comparable<?>>> result = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            result.add(new ArrayList<>(Math.max(each.getDerivedAggregationProjections().size(), 1)));
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps
-                    .toMap(selectStatementContext.getProjectionsContext()
-                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
-            aggregationMap.put(groupByValue, map);
+        return result;
+    }
+    
+    private AggregationUnit[] createAggregationUnits(final List<AggregationProjection> aggregationProjections) {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            result[i] = AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection);
         }
+        return result;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+    private void aggregate(final QueryResult queryResult, final List<AggregationProjection> aggregationProjections,
+                           final List<List<Comparable<?>>> aggregationValues, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            List<Comparable<?>> values = aggregationValues.get(i);
+            values.clear();
+            if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, aggregationProjection));
             } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                for (AggregationProjection derived : aggregationProjection.getDerivedAggregationProjections()) {
                     values.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[i].merge(values);
         }
     }
     
@@ -110,16 +121,18 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private List<MemoryQueryResultRow> getAggregatedMemoryRows(final List<AggregationProjection> aggregationProjections, final Collection<GroupByMemoryRow> groupByRows) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(groupByRows.size());
+        for (GroupByMemoryRow each : groupByRows) {
+            for (int i = 0; i < each.getAggregationUnits().length; i++) {
+                each.getDataRow().setCell(aggregationProjections.get(i).getIndex(), each.getAggregationUnits()[i].getResult());
             }
+            result.add(each.getDataRow());
         }
+        return result;
     }
     
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>();
         result.add(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
@@ -128,7 +141,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
                                                     final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
             String tableName = each.getTableName().getIdentifier().getValue();
@@ -143,17 +156,20 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
-            Object[] data = generateReturnData(selectStatementContext);
-            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+                                                              final List<MemoryQueryResultRow> dataRows, final List<Boolean> valueCaseSensitive) {
+        if (dataRows.isEmpty()) {
+            return getEmptyMemoryResultSetRows(selectStatementContext);
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
-        return result;
+        dataRows.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return dataRows;
+    }
+    
+    static List<MemoryQueryResultRow> getEmptyMemoryResultSetRows(final SelectStatementContext selectStatementContext) {
+        Object[] data = generateReturnData(selectStatementContext);
+        return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
     }
     
-    private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
+    private static Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
         List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
         Object[] result = new Object[projections.size()];
         for (int i = 0; i < projections.size(); i++) {
@@ -163,4 +179,13 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         }
         return result;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class GroupByMemoryRow {
+        
+        private final MemoryQueryResultRow dataRow;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
 }
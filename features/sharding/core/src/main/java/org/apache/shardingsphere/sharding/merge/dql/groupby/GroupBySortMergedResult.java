@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sort merged result for group by.
+ * 
+ * <p>Rows of every group must be sorted together in query results, see {@link SelectStatementContext#isSortedByGroupByItems()}.
+ * Rows are grouped by stream merging and only sorted by order by items in memory.
+ * If pagination row count is present, only top rows required by pagination are kept.</p>
+ */
+public final class GroupBySortMergedResult extends MemoryMergedResult<ShardingRule> {
+    
+    public GroupBySortMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults);
+    }
+    
+    @Override
+    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
+                                              final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        Comparator<MemoryQueryResultRow> comparator = new GroupByRowComparator(selectStatementContext,
+                GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema));
+        long topRowCount = getTopRowCount(selectStatementContext.getPaginationContext());
+        PriorityQueue<MemoryQueryResultRow> topRows = new PriorityQueue<>(comparator.reversed());
+        int columnCount = queryResults.get(0).getMetaData().getColumnCount();
+        MergedResult groupByMergedResult = new GroupByStreamMergedResult(queryResults, selectStatementContext, selectStatementContext.getGroupBySortItems(), schema);
+        while (groupByMergedResult.next()) {
+            topRows.offer(createMemoryQueryResultRow(groupByMergedResult, columnCount));
+            if (topRows.size() > topRowCount) {
+                topRows.poll();
+            }
+        }
+        if (topRows.isEmpty()) {
+            return GroupByMemoryMergedResult.getEmptyMemoryResultSetRows(selectStatementContext);
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(topRows);
+        result.sort(comparator);
+        return result;
+    }
+    
+    private long getTopRowCount(final PaginationContext paginationContext) {
+        if (!paginationContext.isHasPagination() || !paginationContext.getActualRowCount().isPresent()) {
+            return Long.MAX_VALUE;
+        }
+        long result = paginationContext.getActualOffset() + paginationContext.getActualRowCount().get();
+        return result < 0L ? Long.MAX_VALUE : result;
+    }
+    
+    private MemoryQueryResultRow createMemoryQueryResultRow(final MergedResult mergedResult, final int columnCount) throws SQLException {
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return new MemoryQueryResultRow(data);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
 import com.google.common.collect.Maps;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedR
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -50,10 +52,20 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
                                      final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        super(queryResults, selectStatementContext, schema);
+        this(queryResults, selectStatementContext, selectStatementContext.getOrderByContext().getItems(), schema, labelAndIndexMap.size());
+    }
+    
+    public GroupByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                     final Collection<OrderByItem> orderByItems, final ShardingSphereSchema schema) throws SQLException {
+        this(queryResults, selectStatementContext, orderByItems, schema, queryResults.get(0).getMetaData().getColumnCount());
+    }
+    
+    private GroupByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                      final Collection<OrderByItem> orderByItems, final ShardingSphereSchema schema, final int columnCount) throws SQLException {
+        super(queryResults, selectStatementContext, orderByItems, schema);
         this.selectStatementContext = selectStatementContext;
-        currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        currentRow = new ArrayList<>(columnCount);
+        currentGroupByValues = getOrderByValueLoserTree().isEmpty()
                 ? Collections.emptyList()
                 : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
@@ -61,7 +73,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValueLoserTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -28,21 +28,41 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private boolean accumulated;
+    
+    private long integralResult;
+    
+    private BigDecimal decimalResult = BigDecimal.ZERO;
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        if (null == result) {
-            result = new BigDecimal("0");
+        accumulated = true;
+        Comparable<?> value = values.get(0);
+        if (isIntegral(value)) {
+            accumulateIntegral(((Number) value).longValue());
+        } else {
+            decimalResult = decimalResult.add(value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+        }
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private void accumulateIntegral(final long value) {
+        try {
+            integralResult = Math.addExact(integralResult, value);
+        } catch (final ArithmeticException ignored) {
+            decimalResult = decimalResult.add(BigDecimal.valueOf(integralResult));
+            integralResult = value;
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return accumulated ? decimalResult.add(BigDecimal.valueOf(integralResult)) : null;
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values for k-way merge.
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        tree = new int[this.orderByValues.length];
+        if (0 != this.orderByValues.length) {
+            tree[0] = build(1);
+        }
+    }
+    
+    private int build(final int node) {
+        if (node >= orderByValues.length) {
+            return node - orderByValues.length;
+        }
+        int left = build(node << 1);
+        int right = build((node << 1) + 1);
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value
+     */
+    public OrderByValue getWinner() {
+        return orderByValues[tree[0]];
+    }
+    
+    /**
+     * Iterate winner to next data and replay the path from winner leaf to root.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int winner = tree[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        for (int node = (winner + orderByValues.length) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int thisIndex, final int otherIndex) {
+        if (exhausted[thisIndex]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = orderByValues[thisIndex].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && thisIndex < otherIndex;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.GroupByOrderToken;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ExpressionOrderByItemSegment;
+
+/**
+ * Group by order token generator.
+ * 
+ * <p>When group by items are different from order by items, group by items absent from order by items are prepended to order by items,
+ * so that each data node returns rows of every group together and they can be grouped by stream merging.</p>
+ */
+public final class GroupByOrderTokenGenerator implements OptionalSQLTokenGenerator<SelectStatementContext>, IgnoreForSingleRoute {
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return selectStatementContext.isSortedByGroupByItems() && !selectStatementContext.getGroupByItemsAbsentFromOrderBy().isEmpty();
+    }
+    
+    @Override
+    public GroupByOrderToken generateSQLToken(final SelectStatementContext selectStatementContext) {
+        GroupByOrderToken result = new GroupByOrderToken(getOrderByItemsStartIndex(selectStatementContext));
+        String columnLabel;
+        for (OrderByItem each : selectStatementContext.getGroupByItemsAbsentFromOrderBy()) {
+            if (each.getSegment() instanceof ColumnOrderByItemSegment) {
+                columnLabel = ((ColumnOrderByItemSegment) each.getSegment()).getText();
+            } else if (each.getSegment() instanceof ExpressionOrderByItemSegment) {
+                columnLabel = ((ExpressionOrderByItemSegment) each.getSegment()).getText();
+            } else {
+                columnLabel = String.valueOf(each.getIndex());
+            }
+            result.getColumnLabels().add(columnLabel);
+            result.getOrderDirections().add(each.getSegment().getOrderDirection());
+        }
+        return result;
+    }
+    
+    private int getOrderByItemsStartIndex(final SelectStatementContext selectStatementContext) {
+        return selectStatementContext.getOrderByContext().getItems().stream().mapToInt(each -> each.getSegment().getStartIndex()).min().orElse(0);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Attachable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Group by order token, which prepends group by items to original order by items.
+ */
+@Getter
+public final class GroupByOrderToken extends SQLToken implements Attachable {
+    
+    private final List<String> columnLabels = new LinkedList<>();
+    
+    private final List<OrderDirection> orderDirections = new LinkedList<>();
+    
+    public GroupByOrderToken(final int startIndex) {
+        super(startIndex);
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < columnLabels.size(); i++) {
+            result.append(columnLabels.get(i)).append(" ").append(orderDirections.get(i).name()).append(", ");
+        }
+        return result.toString();
+    }
+}
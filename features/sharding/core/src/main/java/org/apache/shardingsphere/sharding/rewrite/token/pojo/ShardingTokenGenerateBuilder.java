@@ -29,6 +29,7 @@ import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.Constrain
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.CursorTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.DistinctProjectionPrefixTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.FetchDirectionTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.GroupByOrderTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.IndexTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.OffsetTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.OrderByTokenGenerator;
@@ -62,6 +63,7 @@ public final class ShardingTokenGenerateBuilder implements SQLTokenGeneratorBuil
     @Override
     public Collection<SQLTokenGenerator> getSQLTokenGenerators() {
         Collection<SQLTokenGenerator> result = new LinkedList<>();
+        addSQLTokenGenerator(result, new GroupByOrderTokenGenerator());
         addSQLTokenGenerator(result, new TableTokenGenerator());
         addSQLTokenGenerator(result, new DistinctProjectionPrefixTokenGenerator());
         addSQLTokenGenerator(result, new ProjectionsTokenGenerator());
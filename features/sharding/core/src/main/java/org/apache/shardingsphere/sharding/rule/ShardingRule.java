@@ -551,6 +551,42 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return Optional.empty();
     }
     
+    /**
+     * Judge whether columns contain all sharding columns of logic table or not.
+     *
+     * @param logicTableName logic table name
+     * @param columnNames column names
+     * @return whether columns contain all sharding columns of logic table or not
+     */
+    public boolean isAllShardingColumnsContained(final String logicTableName, final Collection<String> columnNames) {
+        TableRule tableRule = tableRules.get(logicTableName.toLowerCase());
+        if (null == tableRule) {
+            return false;
+        }
+        Collection<String> caseInsensitiveColumnNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitiveColumnNames.addAll(columnNames);
+        boolean singleDataSource = tableRule.getActualDataSourceNames().size() <= 1;
+        boolean singleTablePerDataSource = tableRule.getActualDataSourceNames().stream().allMatch(each -> tableRule.getActualTableNames(each).size() <= 1);
+        return isAllShardingColumnsContained(getDatabaseShardingStrategyConfiguration(tableRule), caseInsensitiveColumnNames, singleDataSource)
+                && isAllShardingColumnsContained(getTableShardingStrategyConfiguration(tableRule), caseInsensitiveColumnNames, singleTablePerDataSource);
+    }
+    
+    private boolean isAllShardingColumnsContained(final ShardingStrategyConfiguration shardingStrategyConfig, final Collection<String> columnNames, final boolean singleDataNode) {
+        if (null == shardingStrategyConfig || shardingStrategyConfig instanceof NoneShardingStrategyConfiguration) {
+            return singleDataNode;
+        }
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn
+                    : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return null != shardingColumn && columnNames.contains(shardingColumn);
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return columnNames.containsAll(Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()));
+        }
+        return false;
+    }
+    
     /**
      * Judge whether given logic table column is generate key column or not.
      *
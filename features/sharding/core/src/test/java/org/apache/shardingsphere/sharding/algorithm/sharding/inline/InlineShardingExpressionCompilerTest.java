@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+
+public final class InlineShardingExpressionCompilerTest {
+    
+    @Test
+    public void assertEvaluateModulo() {
+        assertThat(evaluate("t_order_${order_id % 4}", 7), is(Optional.of("t_order_3")));
+        assertThat(evaluate("t_order_${order_id % 4}", 787694822390497281L), is(Optional.of("t_order_1")));
+    }
+    
+    @Test
+    public void assertEvaluateAbs() {
+        assertThat(evaluate("t_order_${(order_id % 4).abs()}", -5), is(Optional.of("t_order_1")));
+        assertThat(evaluate("t_order_${Math.abs(order_id % 4)}", -6), is(Optional.of("t_order_2")));
+    }
+    
+    @Test
+    public void assertEvaluateHashCode() {
+        assertThat(evaluate("t_order_${Math.abs(order_id.hashCode()) % 16}", "abc"), is(Optional.of("t_order_" + Math.abs("abc".hashCode()) % 16)));
+    }
+    
+    @Test
+    public void assertEvaluateArithmetic() {
+        assertThat(evaluate("t_order_${order_id * 2 + 1 - -3}", 2L), is(Optional.of("t_order_8")));
+    }
+    
+    @Test
+    public void assertEvaluateVariableAndMultipleSegments() {
+        assertThat(evaluate("${order_id}", "t_order_0"), is(Optional.of("t_order_0")));
+        assertThat(evaluate("ds_${order_id % 2}.t_order_${order_id % 3}", 5), is(Optional.of("ds_1.t_order_2")));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        assertFalse(evaluate("t_order_${order_id % 4}", new BigInteger("787694822390497280787694822390497280")).isPresent());
+        assertFalse(evaluate("t_order_${order_id % 0}", 4).isPresent());
+        assertFalse(InlineShardingExpressionCompiler.compile("t_order_${user_id % 4}").get().evaluate(Collections.singletonMap("order_id", 1)::get).isPresent());
+    }
+    
+    @Test
+    public void assertCompileWithUnsupportedExpression() {
+        assertFalse(InlineShardingExpressionCompiler.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(InlineShardingExpressionCompiler.compile("t_order_${order_id % 2 == 0 ? 0 : 1}").isPresent());
+        assertFalse(InlineShardingExpressionCompiler.compile("t_order_$order_id").isPresent());
+        assertFalse(InlineShardingExpressionCompiler.compile("t_order_${order_id.substring(1)}").isPresent());
+    }
+    
+    private Optional<String> evaluate(final String inlineExpression, final Object value) {
+        return InlineShardingExpressionCompiler.compile(inlineExpression).get().evaluate(variableName -> "order_id".equals(variableName) ? value : null);
+    }
+}
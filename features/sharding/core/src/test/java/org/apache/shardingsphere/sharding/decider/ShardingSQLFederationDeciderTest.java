@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.decider;
 
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.decider.context.SQLFederationDeciderContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
@@ -29,6 +30,11 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -94,6 +100,22 @@ public final class ShardingSQLFederationDeciderTest {
         assertTrue(actual.isUseSQLFederation());
     }
     
+    @Test
+    public void assertDecideWhenContainsHavingAndGroupedByShardingColumns() {
+        SelectStatementContext select = createStatementContext();
+        when(select.isContainsHaving()).thenReturn(true);
+        when(select.getGroupByContext().getItems()).thenReturn(Collections.singleton(
+                new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("user_id")), OrderDirection.ASC, NullsOrderType.LAST))));
+        QueryContext queryContext = new QueryContext(select, "", Collections.emptyList());
+        SQLFederationDeciderContext actual = new SQLFederationDeciderContext();
+        ShardingRule shardingRule = createShardingRule();
+        when(shardingRule.isAllBindingTables(Arrays.asList("t_order", "t_order_item"))).thenReturn(true);
+        when(shardingRule.isAllShardingColumnsContained("t_order", Collections.singletonList("user_id"))).thenReturn(true);
+        new ShardingSQLFederationDecider().decide(actual, queryContext, mock(ShardingSphereRuleMetaData.class), createDatabase(), shardingRule, new ConfigurationProperties(new Properties()));
+        assertThat(actual.getDataNodes().size(), is(4));
+        assertFalse(actual.isUseSQLFederation());
+    }
+    
     @Test
     public void assertDecideWhenContainsCombine() {
         SelectStatementContext select = createStatementContext();
@@ -57,6 +57,9 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -87,7 +90,6 @@ public final class GroupByMemoryMergedResultTest {
     
     @Test
     public void assertNextForSomeResultSetsEmpty() throws SQLException {
-        when(database.getName()).thenReturn("db_schema");
         QueryResult queryResult1 = createQueryResult();
         when(queryResult1.next()).thenReturn(true, false);
         when(queryResult1.getValue(1, Object.class)).thenReturn(20);
@@ -103,8 +105,7 @@ public final class GroupByMemoryMergedResultTest {
         when(queryResult3.getValue(3, Object.class)).thenReturn(2, 3);
         when(queryResult3.getValue(4, Object.class)).thenReturn(2, 2, 3);
         when(queryResult3.getValue(5, Object.class)).thenReturn(20, 20, 30);
-        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
-        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        MergedResult actual = createGroupByMemoryMergedResult(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext());
         assertTrue(actual.next());
         assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
         assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
@@ -120,6 +121,15 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    private MergedResult createGroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) throws SQLException {
+        Map<String, Integer> columnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 1; i <= queryResults.get(0).getMetaData().getColumnCount(); i++) {
+            columnLabelIndexMap.put(queryResults.get(0).getMetaData().getColumnLabel(i), i);
+        }
+        selectStatementContext.setIndexes(columnLabelIndexMap);
+        return new GroupByMemoryMergedResult(queryResults, selectStatementContext, mock(ShardingSphereSchema.class));
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
@@ -152,7 +162,6 @@ public final class GroupByMemoryMergedResultTest {
     
     @Test
     public void assertNextForAggregationResultSetsEmpty() throws SQLException {
-        when(database.getName()).thenReturn("db_schema");
         QueryResult queryResult1 = createQueryResult();
         when(queryResult1.next()).thenReturn(true, false);
         when(queryResult1.getValue(1, Object.class)).thenReturn(20);
@@ -168,8 +177,7 @@ public final class GroupByMemoryMergedResultTest {
         when(queryResult3.getValue(3, Object.class)).thenReturn(2, 3);
         when(queryResult3.getValue(4, Object.class)).thenReturn(2, 2, 3);
         when(queryResult3.getValue(5, Object.class)).thenReturn(20, 20, 30);
-        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
-        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        MergedResult actual = createGroupByMemoryMergedResult(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext());
         assertTrue(actual.next());
         assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
         assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
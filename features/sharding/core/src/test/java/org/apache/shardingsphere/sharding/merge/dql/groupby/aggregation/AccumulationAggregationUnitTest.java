@@ -19,10 +19,12 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
 
 public final class AccumulationAggregationUnitTest {
     
@@ -36,4 +38,20 @@ public final class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    public void assertAccumulationAggregationWithoutValue() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(null));
+        assertNull(accumulationAggregationUnit.getResult());
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithLongOverflow() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(new BigDecimal("0.5")));
+        assertThat(accumulationAggregationUnit.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L)).add(new BigDecimal("0.5"))));
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        OrderByValue first = mock(OrderByValue.class);
+        OrderByValue second = mock(OrderByValue.class);
+        OrderByValue third = mock(OrderByValue.class);
+        mockCompareTo(first, second);
+        mockCompareTo(first, third);
+        mockCompareTo(second, third);
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Arrays.asList(third, first, second));
+        assertFalse(actual.isEmpty());
+        assertThat(actual.getWinner(), is(first));
+        actual.next();
+        assertThat(actual.getWinner(), is(second));
+        actual.next();
+        assertThat(actual.getWinner(), is(third));
+        actual.next();
+        assertTrue(actual.isEmpty());
+    }
+    
+    private void mockCompareTo(final OrderByValue smaller, final OrderByValue larger) {
+        when(smaller.compareTo(larger)).thenReturn(-1);
+        when(larger.compareTo(smaller)).thenReturn(1);
+    }
+}
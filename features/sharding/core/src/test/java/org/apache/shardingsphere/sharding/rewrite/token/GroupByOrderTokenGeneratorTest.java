@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.GroupByOrderTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.GroupByOrderToken;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByOrderTokenGeneratorTest {
+    
+    @Test
+    public void assertIsNotGenerateSQLTokenWithInsertStatement() {
+        assertFalse(new GroupByOrderTokenGenerator().isGenerateSQLToken(mock(InsertStatementContext.class)));
+    }
+    
+    @Test
+    public void assertIsNotGenerateSQLTokenWhenNotSortedByGroupByItems() {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.isSortedByGroupByItems()).thenReturn(false);
+        assertFalse(new GroupByOrderTokenGenerator().isGenerateSQLToken(selectStatementContext));
+    }
+    
+    @Test
+    public void assertIsNotGenerateSQLTokenWithoutGroupByItemsAbsentFromOrderBy() {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.getGroupByItemsAbsentFromOrderBy()).thenReturn(Collections.emptyList());
+        assertFalse(new GroupByOrderTokenGenerator().isGenerateSQLToken(selectStatementContext));
+    }
+    
+    @Test
+    public void assertIsGenerateSQLToken() {
+        assertTrue(new GroupByOrderTokenGenerator().isGenerateSQLToken(mockSelectStatementContext()));
+    }
+    
+    @Test
+    public void assertGenerateSQLToken() {
+        GroupByOrderToken actual = new GroupByOrderTokenGenerator().generateSQLToken(mockSelectStatementContext());
+        assertThat(actual.getStartIndex(), is(40));
+        assertThat(actual.getColumnLabels(), is(Collections.singletonList("amount")));
+        assertThat(actual.getOrderDirections(), is(Collections.singletonList(OrderDirection.ASC)));
+        assertThat(actual.toString(), is("amount ASC, "));
+    }
+    
+    private SelectStatementContext mockSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        OrderByItem groupByItem = new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(29, 34, new IdentifierValue("amount")), OrderDirection.ASC, NullsOrderType.FIRST));
+        when(result.isSortedByGroupByItems()).thenReturn(true);
+        when(result.getGroupByItemsAbsentFromOrderBy()).thenReturn(Collections.singletonList(groupByItem));
+        OrderByItem orderByItem1 = new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(45, 54, new IdentifierValue("account_id")), OrderDirection.ASC, NullsOrderType.FIRST));
+        OrderByItem orderByItem2 = new OrderByItem(new IndexOrderByItemSegment(40, 40, 1, OrderDirection.DESC, NullsOrderType.LAST));
+        when(result.getOrderByContext().getItems()).thenReturn(Arrays.asList(orderByItem1, orderByItem2));
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo;
+
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class GroupByOrderTokenTest {
+    
+    @Test
+    public void assertToString() {
+        GroupByOrderToken groupByOrderToken = new GroupByOrderToken(0);
+        groupByOrderToken.getColumnLabels().add("Test1");
+        groupByOrderToken.getColumnLabels().add("Test2");
+        groupByOrderToken.getOrderDirections().add(OrderDirection.ASC);
+        groupByOrderToken.getOrderDirections().add(OrderDirection.DESC);
+        assertThat(groupByOrderToken.toString(), is("Test1 ASC, Test2 DESC, "));
+    }
+}
@@ -288,6 +288,17 @@ public final class ShardingRuleTest {
         assertFalse(actual.isPresent());
     }
     
+    @Test
+    public void assertIsAllShardingColumnsContained() {
+        assertTrue(createMaximumShardingRule().isAllShardingColumnsContained("logic_table", Arrays.asList("USER_ID", "order_id", "status")));
+    }
+    
+    @Test
+    public void assertIsNotAllShardingColumnsContained() {
+        assertFalse(createMaximumShardingRule().isAllShardingColumnsContained("logic_table", Collections.singleton("user_id")));
+        assertFalse(createMaximumShardingRule().isAllShardingColumnsContained("new_table", Arrays.asList("user_id", "order_id")));
+    }
+    
     @Test
     public void assertFindGenerateKeyColumn() {
         assertTrue(createMaximumShardingRule().findGenerateKeyColumnName("logic_table").isPresent());
@@ -34,4 +34,10 @@ public final class ShardingCacheOptions {
     private final int initialCapacity;
     
     private final int maximumSize;
+    
+    private final long expireAfterAccessMillis;
+    
+    public ShardingCacheOptions(final boolean softValues, final int initialCapacity, final int maximumSize) {
+        this(softValues, initialCapacity, maximumSize, 0L);
+    }
 }
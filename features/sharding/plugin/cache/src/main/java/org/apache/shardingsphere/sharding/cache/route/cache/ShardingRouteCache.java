@@ -22,6 +22,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.shardingsphere.sharding.cache.api.ShardingCacheOptions;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Cache for sharding route.
@@ -39,6 +40,9 @@ public final class ShardingRouteCache {
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
+        if (cacheOptions.getExpireAfterAccessMillis() > 0L) {
+            result.expireAfterAccess(cacheOptions.getExpireAfterAccessMillis(), TimeUnit.MILLISECONDS);
+        }
         return result.build();
     }
     
@@ -149,7 +149,7 @@ public final class ShardingRouteCacheableCheckerTest {
     }
     
     private ShardingCacheRule prepareShardingCacheRule(final ShardingRule shardingRule) {
-        return new ShardingCacheRule(new ShardingCacheRuleConfiguration(100, new ShardingCacheOptions(true, 0, 0)), shardingRule,
+        return new ShardingCacheRule(new ShardingCacheRuleConfiguration(100, new ShardingCacheOptions(true, 0, 0, 0L)), shardingRule,
                 new TimeServiceRule(new TimeServiceRuleConfiguration("System", new Properties())));
     }
     
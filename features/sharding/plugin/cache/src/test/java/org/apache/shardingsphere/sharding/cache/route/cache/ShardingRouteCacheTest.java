@@ -30,10 +30,28 @@ public final class ShardingRouteCacheTest {
     
     @Test
     public void assertPutAndGet() {
-        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptions(true, 1, 1));
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptions(true, 1, 1, 0L));
         ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
         assertFalse(cache.get(key).isPresent());
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    public void assertGetAfterExpireAfterAccess() throws InterruptedException {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptions(false, 1, 1, 10L));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        Thread.sleep(50L);
+        assertFalse(cache.get(key).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithoutExpireAfterAccess() throws InterruptedException {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptions(false, 1, 1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        Thread.sleep(50L);
+        assertTrue(cache.get(key).isPresent());
+    }
 }
@@ -41,7 +41,7 @@ public final class ShardingCacheRuleBuilderTest {
     public void assertBuildShardingCacheRule() {
         ShardingRule expectedShardingRule = mock(ShardingRule.class);
         TimeServiceRule expectedTimeServiceRule = mock(TimeServiceRule.class);
-        ShardingCacheRuleConfiguration expectedConfig = new ShardingCacheRuleConfiguration(100, new ShardingCacheOptions(true, 1, 1));
+        ShardingCacheRuleConfiguration expectedConfig = new ShardingCacheRuleConfiguration(100, new ShardingCacheOptions(true, 1, 1, 0L));
         DatabaseRule actual = new ShardingCacheRuleBuilder().build(expectedConfig, "", Collections.emptyMap(), Arrays.asList(expectedShardingRule, expectedTimeServiceRule), null);
         assertThat(actual, instanceOf(ShardingCacheRule.class));
         ShardingCacheRule actualShardingCacheRule = (ShardingCacheRule) actual;
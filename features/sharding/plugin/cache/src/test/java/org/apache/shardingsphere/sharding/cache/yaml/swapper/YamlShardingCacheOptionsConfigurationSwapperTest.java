@@ -29,10 +29,11 @@ public final class YamlShardingCacheOptionsConfigurationSwapperTest {
     
     @Test
     public void assertSwapToYamlConfiguration() {
-        YamlShardingCacheOptionsConfiguration actual = new YamlShardingCacheOptionsConfigurationSwapper().swapToYamlConfiguration(new ShardingCacheOptions(true, 128, 1024));
+        YamlShardingCacheOptionsConfiguration actual = new YamlShardingCacheOptionsConfigurationSwapper().swapToYamlConfiguration(new ShardingCacheOptions(true, 128, 1024, 60000L));
         assertTrue(actual.isSoftValues());
         assertThat(actual.getInitialCapacity(), is(128));
         assertThat(actual.getMaximumSize(), is(1024));
+        assertThat(actual.getExpireAfterAccessMillis(), is(60000L));
     }
     
     @Test
@@ -41,9 +42,11 @@ public final class YamlShardingCacheOptionsConfigurationSwapperTest {
         input.setSoftValues(true);
         input.setInitialCapacity(256);
         input.setMaximumSize(4096);
+        input.setExpireAfterAccessMillis(30000L);
         ShardingCacheOptions actual = new YamlShardingCacheOptionsConfigurationSwapper().swapToObject(input);
         assertTrue(actual.isSoftValues());
         assertThat(actual.getInitialCapacity(), is(256));
         assertThat(actual.getMaximumSize(), is(4096));
+        assertThat(actual.getExpireAfterAccessMillis(), is(30000L));
     }
 }
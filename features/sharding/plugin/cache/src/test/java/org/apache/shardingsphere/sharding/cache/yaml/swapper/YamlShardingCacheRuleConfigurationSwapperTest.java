@@ -33,7 +33,7 @@ public final class YamlShardingCacheRuleConfigurationSwapperTest {
     @Test
     public void assertSwapToYamlConfiguration() {
         YamlShardingCacheRuleConfiguration actual = new YamlShardingCacheRuleConfigurationSwapper()
-                .swapToYamlConfiguration(new ShardingCacheRuleConfiguration(100, new ShardingCacheOptions(true, 128, 1024)));
+                .swapToYamlConfiguration(new ShardingCacheRuleConfiguration(100, new ShardingCacheOptions(true, 128, 1024, 0L)));
         assertThat(actual.getAllowedMaxSqlLength(), is(100));
         YamlShardingCacheOptionsConfiguration actualRouteCache = actual.getRouteCache();
         assertTrue(actualRouteCache.isSoftValues());
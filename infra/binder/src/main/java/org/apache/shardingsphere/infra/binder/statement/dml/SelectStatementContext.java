@@ -298,6 +298,66 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         return !groupByContext.getItems().isEmpty() && groupByContext.getItems().equals(orderByContext.getItems());
     }
     
+    /**
+     * Judge whether rows of every group can be sorted together by order by items.
+     *
+     * <p>Group by items absent from order by items are prepended to order by items of every routed SQL,
+     * so rows of every group are sorted together if group by items present in order by items are all leading order by items.</p>
+     *
+     * @return rows of every group can be sorted together or not
+     */
+    public boolean isSortedByGroupByItems() {
+        if (!getSqlStatement().getGroupBy().isPresent() || groupByContext.getItems().isEmpty() || orderByContext.isGenerated() || orderByContext.getItems().isEmpty()) {
+            return false;
+        }
+        return orderByContext.getItems().stream().skip(getLeadingGroupByItemCount()).noneMatch(this::isGroupByItem);
+    }
+    
+    /**
+     * Get group by items absent from order by items.
+     *
+     * @return group by items absent from order by items
+     */
+    public List<OrderByItem> getGroupByItemsAbsentFromOrderBy() {
+        return groupByContext.getItems().stream().filter(each -> orderByContext.getItems().stream().noneMatch(orderByItem -> isSameItem(each, orderByItem))).collect(Collectors.toList());
+    }
+    
+    /**
+     * Get items which rows of every group are sorted together by.
+     *
+     * @return group by items absent from order by items and leading order by items which are group by items
+     */
+    public List<OrderByItem> getGroupBySortItems() {
+        List<OrderByItem> result = getGroupByItemsAbsentFromOrderBy();
+        orderByContext.getItems().stream().limit(getLeadingGroupByItemCount()).forEach(result::add);
+        return result;
+    }
+    
+    private int getLeadingGroupByItemCount() {
+        int result = 0;
+        for (OrderByItem each : orderByContext.getItems()) {
+            if (!isGroupByItem(each)) {
+                break;
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean isGroupByItem(final OrderByItem orderByItem) {
+        return groupByContext.getItems().stream().anyMatch(each -> isSameItem(each, orderByItem));
+    }
+    
+    private boolean isSameItem(final OrderByItem item1, final OrderByItem item2) {
+        if (item1.getSegment() instanceof IndexOrderByItemSegment && item2.getSegment() instanceof IndexOrderByItemSegment) {
+            return ((IndexOrderByItemSegment) item1.getSegment()).getColumnIndex() == ((IndexOrderByItemSegment) item2.getSegment()).getColumnIndex();
+        }
+        if (item1.getSegment() instanceof TextOrderByItemSegment && item2.getSegment() instanceof TextOrderByItemSegment) {
+            return ((TextOrderByItemSegment) item1.getSegment()).getText().equalsIgnoreCase(((TextOrderByItemSegment) item2.getSegment()).getText());
+        }
+        return false;
+    }
+    
     @Override
     public Collection<SimpleTableSegment> getAllTables() {
         return tablesContext.getTables();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.binder.statement.dml;
 
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -60,7 +61,9 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -322,6 +325,55 @@ public final class SelectStatementContextTest {
         assertFalse(selectStatementContext.isSameGroupByAndOrderByItems());
     }
     
+    @Test
+    public void assertIsSortedByGroupByItemsWithGroupByItemsAbsentFromOrderBy() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(
+                Arrays.asList(createColumnOrderByItemSegment("account_id", OrderDirection.ASC), createColumnOrderByItemSegment("amount", OrderDirection.ASC)),
+                Arrays.asList(createColumnOrderByItemSegment("amount", OrderDirection.DESC), createColumnOrderByItemSegment("status", OrderDirection.ASC)));
+        assertTrue(selectStatementContext.isSortedByGroupByItems());
+        assertThat(getItemTexts(selectStatementContext.getGroupByItemsAbsentFromOrderBy()), is(Collections.singletonList("account_id ASC")));
+        assertThat(getItemTexts(selectStatementContext.getGroupBySortItems()), is(Arrays.asList("account_id ASC", "amount DESC")));
+    }
+    
+    @Test
+    public void assertIsSortedByGroupByItemsWithGroupByItemsInOrderBy() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(Collections.singletonList(createColumnOrderByItemSegment("account_id", OrderDirection.ASC)),
+                Collections.singletonList(createColumnOrderByItemSegment("ACCOUNT_ID", OrderDirection.DESC)));
+        assertTrue(selectStatementContext.isSortedByGroupByItems());
+        assertTrue(selectStatementContext.getGroupByItemsAbsentFromOrderBy().isEmpty());
+        assertThat(getItemTexts(selectStatementContext.getGroupBySortItems()), is(Collections.singletonList("ACCOUNT_ID DESC")));
+    }
+    
+    @Test
+    public void assertIsNotSortedByGroupByItemsWhenGroupByItemIsNotLeadingOrderByItem() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(Collections.singletonList(createColumnOrderByItemSegment("account_id", OrderDirection.ASC)),
+                Arrays.asList(createColumnOrderByItemSegment("amount", OrderDirection.ASC), createColumnOrderByItemSegment("account_id", OrderDirection.DESC)));
+        assertFalse(selectStatementContext.isSortedByGroupByItems());
+    }
+    
+    @Test
+    public void assertIsNotSortedByGroupByItemsWithoutOrderBy() {
+        assertFalse(createSelectStatementContext(Collections.singletonList(createColumnOrderByItemSegment("account_id", OrderDirection.ASC)), Collections.emptyList()).isSortedByGroupByItems());
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final List<OrderByItemSegment> groupByItems, final List<OrderByItemSegment> orderByItems) {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, groupByItems));
+        if (!orderByItems.isEmpty()) {
+            selectStatement.setOrderBy(new OrderBySegment(0, 0, orderByItems));
+        }
+        return createSelectStatementContext(selectStatement);
+    }
+    
+    private ColumnOrderByItemSegment createColumnOrderByItemSegment(final String columnName, final OrderDirection orderDirection) {
+        return new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue(columnName)), orderDirection, NullsOrderType.FIRST);
+    }
+    
+    private List<String> getItemTexts(final List<OrderByItem> items) {
+        return items.stream().map(each -> ((ColumnOrderByItemSegment) each.getSegment()).getText() + " " + each.getSegment().getOrderDirection()).collect(Collectors.toList());
+    }
+    
     @Test
     public void assertSetIndexWhenAggregationProjectionsPresentForMySQL() {
         assertSetIndexWhenAggregationProjectionsPresent(new MySQLSelectStatement());
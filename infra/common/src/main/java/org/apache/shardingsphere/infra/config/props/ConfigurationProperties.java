@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.infra.config.props;
 
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.props.TypedProperties;
+import org.apache.shardingsphere.infra.util.props.exception.TypedPropertiesServerException;
 
+import java.util.Collections;
 import java.util.Properties;
 
 /**
@@ -28,5 +31,15 @@ public final class ConfigurationProperties extends TypedProperties<Configuration
     
     public ConfigurationProperties(final Properties props) {
         super(ConfigurationPropertyKey.class, props);
+        checkWriteBufferWaterMark();
+    }
+    
+    private void checkWriteBufferWaterMark() {
+        int lowWaterMark = getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK);
+        int highWaterMark = getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK);
+        ShardingSpherePreconditions.checkState(lowWaterMark >= 0 && lowWaterMark <= highWaterMark,
+                () -> new TypedPropertiesServerException(Collections.singletonList(String.format("Value `%d` of `%s` must be non-negative and not greater than value `%d` of `%s`.",
+                        lowWaterMark, ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK.getKey(),
+                        highWaterMark, ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK.getKey()))));
     }
 }
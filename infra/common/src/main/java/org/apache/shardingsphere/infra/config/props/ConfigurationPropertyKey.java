@@ -52,6 +52,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Available options of kernel executor mode: FIXED(default), VIRTUAL. The VIRTUAL option executes every execution group in its own virtual thread when running on JDK 21 or later,
+     * and in its own platform thread of an unbounded pool otherwise, so {@link ConfigurationPropertyKey#KERNEL_EXECUTOR_SIZE} is ignored.
+     */
+    KERNEL_EXECUTOR_MODE("kernel-executor-mode", KernelExecutorMode.FIXED.name(), KernelExecutorMode.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -62,11 +68,31 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_META_DATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max table size of every batch to load table meta data from one storage unit, batches are loaded in parallel and no more than max pool size of the storage unit.
+     */
+    LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
+    
+    /**
+     * Max rows of every multiple rows INSERT statement coalesced from batched single row INSERT statements routed to same data node, less than 2 means no coalescing.
+     */
+    BATCH_INSERT_COALESCE_SIZE("batch-insert-coalesce-size", String.valueOf(0), int.class, false),
+    
     /**
      * SQL federation type.
      */
     SQL_FEDERATION_TYPE("sql-federation-type", "NONE", String.class, false),
     
+    /**
+     * Whether stream scan result of SQL federation or not.
+     */
+    SQL_FEDERATION_STREAM_SCAN_ENABLED("sql-federation-stream-scan-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Maximum size of SQL federation executable plan cache, zero means disable.
+     */
+    SQL_FEDERATION_PLAN_CACHE_SIZE("sql-federation-plan-cache-size", String.valueOf(0), int.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -77,6 +103,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold for bytes of records written to outbound buffer for ShardingSphere-Proxy, 0 means flush by records count only.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(64 * 1024), int.class, false),
+    
+    /**
+     * Low water mark of write buffer for every client connection of ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK("proxy-frontend-write-buffer-low-water-mark", String.valueOf(8 * 1024 * 1024), int.class, true),
+    
+    /**
+     * High water mark of write buffer for every client connection of ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK("proxy-frontend-write-buffer-high-water-mark", String.valueOf(16 * 1024 * 1024), int.class, true),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -104,6 +145,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Whether run the dedicated thread of every client connection on virtual thread, platform thread is used if virtual thread is unsupported by current JDK.
+     */
+    PROXY_FRONTEND_CONNECTION_VIRTUAL_THREAD_ENABLED("proxy-frontend-connection-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy MySQL default version.
      */
@@ -35,7 +35,12 @@ public enum InternalConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Proxy meta data collector enabled.
      */
-    PROXY_META_DATA_COLLECTOR_ENABLED("proxy-meta-data-collector-enabled", String.valueOf(Boolean.TRUE), boolean.class, true);
+    PROXY_META_DATA_COLLECTOR_ENABLED("proxy-meta-data-collector-enabled", String.valueOf(Boolean.TRUE), boolean.class, true),
+    
+    /**
+     * Proxy meta data collector interval seconds.
+     */
+    PROXY_META_DATA_COLLECTOR_INTERVAL_SECONDS("proxy-meta-data-collector-interval-seconds", "30", long.class, true);
     
     private final String key;
     
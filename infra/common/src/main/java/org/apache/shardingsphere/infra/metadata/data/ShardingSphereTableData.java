@@ -17,13 +17,15 @@
 
 package org.apache.shardingsphere.infra.metadata.data;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere table data.
@@ -35,5 +37,25 @@ public final class ShardingSphereTableData {
     
     private final String name;
     
-    private final Collection<ShardingSphereRowData> rows = new TreeSet<>(Comparator.comparing(ShardingSphereRowData::getUniqueKey));
+    private final Collection<ShardingSphereRowData> rows = new ConcurrentSkipListSet<>(Comparator.comparing(ShardingSphereRowData::getUniqueKey));
+    
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final AtomicLong version = new AtomicLong();
+    
+    /**
+     * Get version of rows.
+     *
+     * @return version of rows
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Increase version of rows after rows changed.
+     */
+    public void increaseVersion() {
+        version.incrementAndGet();
+    }
 }
@@ -56,6 +56,7 @@ public final class SchemaMetaDataLoaderEngine {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<SchemaMetaDataLoaderMaterial> materials) throws SQLException {
+        long startTimeMillis = System.currentTimeMillis();
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1);
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (SchemaMetaDataLoaderMaterial each : materials) {
@@ -71,6 +72,7 @@ public final class SchemaMetaDataLoaderEngine {
             }
             throw new UnknownSQLException(ex).toSQLException();
         }
+        log.debug("Load schema meta data with {} material(s) costs {} ms.", materials.size(), System.currentTimeMillis() - startTimeMillis);
         return result;
     }
     
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere schema.
@@ -32,10 +33,14 @@ import java.util.concurrent.ConcurrentHashMap;
 @Getter
 public final class ShardingSphereSchema {
     
+    private static final AtomicLong VERSION_GENERATOR = new AtomicLong();
+    
     private final Map<String, ShardingSphereTable> tables;
     
     private final Map<String, ShardingSphereView> views;
     
+    private volatile long version = VERSION_GENERATOR.incrementAndGet();
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
@@ -95,6 +100,7 @@ public final class ShardingSphereSchema {
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
         tables.put(tableName.toLowerCase(), table);
+        version = VERSION_GENERATOR.incrementAndGet();
     }
     
     /**
@@ -105,6 +111,7 @@ public final class ShardingSphereSchema {
      */
     public void putView(final String viewName, final ShardingSphereView view) {
         views.put(viewName.toLowerCase(), view);
+        version = VERSION_GENERATOR.incrementAndGet();
     }
     
     /**
@@ -125,6 +132,7 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        version = VERSION_GENERATOR.incrementAndGet();
     }
     
     /**
@@ -134,6 +142,7 @@ public final class ShardingSphereSchema {
      */
     public void removeView(final String viewName) {
         views.remove(viewName.toLowerCase());
+        version = VERSION_GENERATOR.incrementAndGet();
     }
     
     /**
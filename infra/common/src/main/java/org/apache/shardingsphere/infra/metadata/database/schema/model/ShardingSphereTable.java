@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.model;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +40,12 @@ import java.util.Map;
 @ToString
 public final class ShardingSphereTable {
     
+    private static final Interner<ShardingSphereColumn> COLUMN_INTERNER = Interners.newWeakInterner();
+    
+    private static final Interner<ShardingSphereIndex> INDEX_INTERNER = Interners.newWeakInterner();
+    
+    private static final Interner<String> LOWER_CASE_NAME_INTERNER = Interners.newWeakInterner();
+    
     private final String name;
     
     private final Map<String, ShardingSphereColumn> columns;
@@ -67,14 +75,15 @@ public final class ShardingSphereTable {
     private Map<String, ShardingSphereColumn> getColumns(final Collection<ShardingSphereColumn> columnList) {
         Map<String, ShardingSphereColumn> result = new LinkedHashMap<>(columnList.size(), 1);
         for (ShardingSphereColumn each : columnList) {
-            String lowerColumnName = each.getName().toLowerCase();
-            result.put(lowerColumnName, each);
-            columnNames.add(each.getName());
-            if (each.isPrimaryKey()) {
+            ShardingSphereColumn column = COLUMN_INTERNER.intern(each);
+            String lowerColumnName = LOWER_CASE_NAME_INTERNER.intern(column.getName().toLowerCase());
+            result.put(lowerColumnName, column);
+            columnNames.add(column.getName());
+            if (column.isPrimaryKey()) {
                 primaryKeyColumns.add(lowerColumnName);
             }
-            if (each.isVisible()) {
-                visibleColumns.add(each.getName());
+            if (column.isVisible()) {
+                visibleColumns.add(column.getName());
             }
         }
         return result;
@@ -83,7 +92,8 @@ public final class ShardingSphereTable {
     private Map<String, ShardingSphereIndex> getIndexes(final Collection<ShardingSphereIndex> indexList) {
         Map<String, ShardingSphereIndex> result = new LinkedHashMap<>(indexList.size(), 1);
         for (ShardingSphereIndex each : indexList) {
-            result.put(each.getName().toLowerCase(), each);
+            ShardingSphereIndex index = INDEX_INTERNER.intern(each);
+            result.put(LOWER_CASE_NAME_INTERNER.intern(index.getName().toLowerCase()), index);
         }
         return result;
     }
@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.util;
 
+import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
+import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCreator;
 import org.apache.shardingsphere.infra.datasource.registry.GlobalDataSourceRegistry;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 import org.apache.shardingsphere.infra.metadata.database.schema.exception.UnsupportedActualDataNodeStructureException;
@@ -29,12 +31,14 @@ import org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata.
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Schema meta data utility class.
@@ -48,10 +52,12 @@ public class SchemaMetaDataUtil {
      * @param tableNames table name collection
      * @param material material
      * @param checkMetaDataEnable check meta data enable config
+     * @param loadTableMetaDataBatchSize max table size of every schema meta data loader material,
+     *                                   enlarged when materials of one data source would be more than max pool size of the data source
      * @return schema meta data loader materials
      */
-    public static Collection<SchemaMetaDataLoaderMaterial> getSchemaMetaDataLoaderMaterials(final Collection<String> tableNames,
-                                                                                            final GenericSchemaBuilderMaterial material, final boolean checkMetaDataEnable) {
+    public static Collection<SchemaMetaDataLoaderMaterial> getSchemaMetaDataLoaderMaterials(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material,
+                                                                                            final boolean checkMetaDataEnable, final int loadTableMetaDataBatchSize) {
         Map<String, Collection<String>> dataSourceTableGroups = new LinkedHashMap<>();
         Collection<DatabaseType> notSupportThreeTierStructureStorageTypes = getNotSupportThreeTierStructureStorageTypes(material.getStorageTypes().values());
         DataNodes dataNodes = new DataNodes(material.getRules());
@@ -63,8 +69,31 @@ public class SchemaMetaDataUtil {
                 addOneActualTableDataNode(material, dataSourceTableGroups, dataNodes, each);
             }
         }
-        return dataSourceTableGroups.entrySet().stream().map(entry -> new SchemaMetaDataLoaderMaterial(entry.getValue(),
-                getDataSource(material, entry.getKey()), material.getStorageTypes().get(entry.getKey()), material.getDefaultSchemaName())).collect(Collectors.toList());
+        Collection<SchemaMetaDataLoaderMaterial> result = new LinkedList<>();
+        for (Entry<String, Collection<String>> entry : dataSourceTableGroups.entrySet()) {
+            DataSource dataSource = getDataSource(material, entry.getKey());
+            for (List<String> each : Lists.partition(new ArrayList<>(entry.getValue()), getBatchSize(entry.getValue().size(), loadTableMetaDataBatchSize, dataSource))) {
+                result.add(new SchemaMetaDataLoaderMaterial(each, dataSource, material.getStorageTypes().get(entry.getKey()), material.getDefaultSchemaName()));
+            }
+        }
+        return result;
+    }
+    
+    private static int getBatchSize(final int tableSize, final int loadTableMetaDataBatchSize, final DataSource dataSource) {
+        int result = Math.max(loadTableMetaDataBatchSize, 1);
+        if (tableSize <= result) {
+            return result;
+        }
+        Optional<Integer> maxPoolSize = findMaxPoolSize(dataSource);
+        return maxPoolSize.isPresent() ? Math.max(result, (tableSize + maxPoolSize.get() - 1) / maxPoolSize.get()) : result;
+    }
+    
+    private static Optional<Integer> findMaxPoolSize(final DataSource dataSource) {
+        if (null == dataSource) {
+            return Optional.empty();
+        }
+        Object result = DataSourcePropertiesCreator.create(dataSource).getAllStandardProperties().get("maxPoolSize");
+        return result instanceof Number && ((Number) result).intValue() > 0 ? Optional.of(((Number) result).intValue()) : Optional.empty();
     }
     
     private static DataSource getDataSource(final GenericSchemaBuilderMaterial material, final String dataSourceName) {
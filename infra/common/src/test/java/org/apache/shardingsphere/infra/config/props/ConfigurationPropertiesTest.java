@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.config.props;
 
+import org.apache.shardingsphere.infra.util.props.exception.TypedPropertiesServerException;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.Test;
@@ -37,6 +38,7 @@ public final class ConfigurationPropertiesTest {
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MODE), is(KernelExecutorMode.VIRTUAL));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("ORIGINAL"));
@@ -59,6 +61,7 @@ public final class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_MODE.getKey(), KernelExecutorMode.VIRTUAL.name()),
                 new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.SQL_FEDERATION_TYPE.getKey(), "ORIGINAL"),
@@ -75,6 +78,17 @@ public final class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.CDC_SERVER_PORT.getKey(), "33071"));
     }
     
+    @Test(expected = TypedPropertiesServerException.class)
+    public void assertNewWithLowWaterMarkGreaterThanHighWaterMark() {
+        new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK.getKey(), "2048"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK.getKey(), "1024")));
+    }
+    
+    @Test(expected = TypedPropertiesServerException.class)
+    public void assertNewWithNegativeLowWaterMark() {
+        new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK.getKey(), "-1")));
+    }
+    
     @Test
     public void assertGetDefaultValue() {
         ConfigurationProperties actual = new ConfigurationProperties(new Properties());
@@ -82,16 +96,25 @@ public final class ConfigurationPropertiesTest {
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MODE), is(KernelExecutorMode.FIXED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.LOAD_TABLE_METADATA_BATCH_SIZE), is(1000));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("NONE"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_STREAM_SCAN_ENABLED), is(false));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_PLAN_CACHE_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD), is(65536));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK), is(8388608));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK), is(16777216));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE), is(BackendExecutorType.OLAP));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_VIRTUAL_THREAD_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION), is("5.7.22"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
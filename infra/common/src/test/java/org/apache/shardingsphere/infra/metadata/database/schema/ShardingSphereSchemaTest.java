@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashSet;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -53,6 +54,17 @@ public final class ShardingSphereSchemaTest {
         assertThat(new ShardingSphereSchema(Collections.singletonMap("tbl", table), Collections.emptyMap()).getTable("tbl"), is(table));
     }
     
+    @Test
+    public void assertVersionChangedAfterTableAltered() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("tbl", mock(ShardingSphereTable.class)), Collections.emptyMap());
+        long originalVersion = schema.getVersion();
+        schema.putTable("tbl", mock(ShardingSphereTable.class));
+        assertNotEquals(originalVersion, schema.getVersion());
+        long alteredVersion = schema.getVersion();
+        schema.removeTable("tbl");
+        assertNotEquals(alteredVersion, schema.getVersion());
+    }
+    
     @Test
     public void assertGetView() {
         ShardingSphereView view = mock(ShardingSphereView.class);
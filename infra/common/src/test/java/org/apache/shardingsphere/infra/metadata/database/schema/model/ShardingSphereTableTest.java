@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ShardingSphereTableTest {
+    
+    @Test
+    public void assertNewTable() {
+        ShardingSphereColumn idColumn = new ShardingSphereColumn("ID", Types.INTEGER, true, false, false, true, false);
+        ShardingSphereColumn nameColumn = new ShardingSphereColumn("name", Types.VARCHAR, false, false, false, false, false);
+        ShardingSphereTable actual = new ShardingSphereTable("foo_tbl", Arrays.asList(idColumn, nameColumn), Collections.singletonList(new ShardingSphereIndex("foo_idx")), Collections.emptyList());
+        assertThat(actual.getColumns().keySet(), is(new LinkedHashSet<>(Arrays.asList("id", "name"))));
+        assertThat(actual.getColumnNames(), is(Arrays.asList("ID", "name")));
+        assertThat(actual.getVisibleColumns(), is(Collections.singletonList("ID")));
+        assertThat(actual.getPrimaryKeyColumns(), is(Collections.singletonList("id")));
+        assertThat(actual.getIndexes().get("foo_idx"), is(new ShardingSphereIndex("foo_idx")));
+    }
+    
+    @Test
+    public void assertShareSameColumnsAndIndexesBetweenTables() {
+        ShardingSphereTable fooTable = new ShardingSphereTable("foo_tbl", Collections.singletonList(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false)),
+                Collections.singletonList(new ShardingSphereIndex("id_idx")), Collections.emptyList());
+        ShardingSphereTable barTable = new ShardingSphereTable("bar_tbl", Collections.singletonList(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false)),
+                Collections.singletonList(new ShardingSphereIndex("id_idx")), Collections.emptyList());
+        assertThat(barTable.getColumns().get("id"), sameInstance(fooTable.getColumns().get("id")));
+        assertThat(barTable.getIndexes().get("id_idx"), sameInstance(fooTable.getIndexes().get("id_idx")));
+    }
+    
+    @Test
+    public void assertShareSameLowerCaseNamesBetweenTables() {
+        ShardingSphereTable fooTable = new ShardingSphereTable("foo_tbl", Collections.singletonList(new ShardingSphereColumn("ID", Types.INTEGER, true, false, false, true, false)),
+                Collections.singletonList(new ShardingSphereIndex("ID_IDX")), Collections.emptyList());
+        ShardingSphereTable barTable = new ShardingSphereTable("bar_tbl", Collections.singletonList(new ShardingSphereColumn("ID", Types.INTEGER, true, false, false, true, false)),
+                Collections.singletonList(new ShardingSphereIndex("ID_IDX")), Collections.emptyList());
+        assertThat(barTable.getColumns().keySet().iterator().next(), sameInstance(fooTable.getColumns().keySet().iterator().next()));
+        assertThat(barTable.getPrimaryKeyColumns().get(0), sameInstance(fooTable.getPrimaryKeyColumns().get(0)));
+        assertThat(barTable.getIndexes().keySet().iterator().next(), sameInstance(fooTable.getIndexes().keySet().iterator().next()));
+    }
+}
@@ -49,7 +49,7 @@ public final class SchemaMetaDataUtilTest {
         when(dataNodeContainedRule.getDataNodesByTableName("t_order")).thenReturn(mockShardingDataNodes());
         GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(mock(DatabaseType.class), Collections.emptyMap(), mockDataSourceMap(),
                 Arrays.asList(dataNodeContainedRule, mock(DataSourceContainedRule.class)), mock(ConfigurationProperties.class), "sharding_db");
-        Collection<SchemaMetaDataLoaderMaterial> actual = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(Collections.singleton("t_order"), material, true);
+        Collection<SchemaMetaDataLoaderMaterial> actual = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(Collections.singleton("t_order"), material, true, 1000);
         assertThat(actual.size(), is(2));
         Iterator<SchemaMetaDataLoaderMaterial> iterator = actual.iterator();
         SchemaMetaDataLoaderMaterial firstMaterial = iterator.next();
@@ -60,13 +60,45 @@ public final class SchemaMetaDataUtilTest {
         assertThat(secondMaterial.getActualTableNames(), is(Collections.singletonList("t_order_1")));
     }
     
+    @Test
+    public void assertGetSchemaMetaDataLoaderMaterialsWithBatchSize() {
+        DataNodeContainedRule dataNodeContainedRule = mock(DataNodeContainedRule.class);
+        when(dataNodeContainedRule.getDataNodesByTableName("t_order")).thenReturn(Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_0.t_order_1"), new DataNode("ds_0.t_order_2")));
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(mock(DatabaseType.class), Collections.emptyMap(), mockDataSourceMap(),
+                Arrays.asList(dataNodeContainedRule, mock(DataSourceContainedRule.class)), mock(ConfigurationProperties.class), "sharding_db");
+        Collection<SchemaMetaDataLoaderMaterial> actual = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(Collections.singleton("t_order"), material, true, 2);
+        assertThat(actual.size(), is(2));
+        Iterator<SchemaMetaDataLoaderMaterial> iterator = actual.iterator();
+        SchemaMetaDataLoaderMaterial firstMaterial = iterator.next();
+        assertThat(firstMaterial.getDataSource(), is(material.getDataSourceMap().get("ds_0")));
+        assertThat(firstMaterial.getActualTableNames(), is(Arrays.asList("t_order_0", "t_order_1")));
+        SchemaMetaDataLoaderMaterial secondMaterial = iterator.next();
+        assertThat(secondMaterial.getDataSource(), is(material.getDataSourceMap().get("ds_0")));
+        assertThat(secondMaterial.getActualTableNames(), is(Collections.singletonList("t_order_2")));
+    }
+    
+    @Test
+    public void assertGetSchemaMetaDataLoaderMaterialsWithBatchSizeLimitedByMaxPoolSize() {
+        DataNodeContainedRule dataNodeContainedRule = mock(DataNodeContainedRule.class);
+        when(dataNodeContainedRule.getDataNodesByTableName("t_order")).thenReturn(Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_0.t_order_1"), new DataNode("ds_0.t_order_2")));
+        Map<String, DataSource> dataSourceMap = mockDataSourceMap();
+        ((MockedDataSource) dataSourceMap.get("ds_0")).setMaxPoolSize(2);
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(mock(DatabaseType.class), Collections.emptyMap(), dataSourceMap,
+                Arrays.asList(dataNodeContainedRule, mock(DataSourceContainedRule.class)), mock(ConfigurationProperties.class), "sharding_db");
+        Collection<SchemaMetaDataLoaderMaterial> actual = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(Collections.singleton("t_order"), material, true, 1);
+        assertThat(actual.size(), is(2));
+        Iterator<SchemaMetaDataLoaderMaterial> iterator = actual.iterator();
+        assertThat(iterator.next().getActualTableNames(), is(Arrays.asList("t_order_0", "t_order_1")));
+        assertThat(iterator.next().getActualTableNames(), is(Collections.singletonList("t_order_2")));
+    }
+    
     @Test
     public void assertGetSchemaMetaDataLoaderMaterialsWhenNotConfigCheckMetaDataEnable() {
         DataNodeContainedRule dataNodeContainedRule = mock(DataNodeContainedRule.class);
         when(dataNodeContainedRule.getDataNodesByTableName("t_order")).thenReturn(mockShardingDataNodes());
         GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(mock(DatabaseType.class), Collections.emptyMap(), mockDataSourceMap(),
                 Arrays.asList(dataNodeContainedRule, mock(DataSourceContainedRule.class)), mock(ConfigurationProperties.class), "sharding_db");
-        Collection<SchemaMetaDataLoaderMaterial> actual = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(Collections.singleton("t_order"), material, false);
+        Collection<SchemaMetaDataLoaderMaterial> actual = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(Collections.singleton("t_order"), material, false, 1000);
         assertThat(actual.size(), is(1));
         Iterator<SchemaMetaDataLoaderMaterial> iterator = actual.iterator();
         SchemaMetaDataLoaderMaterial firstMaterial = iterator.next();
@@ -80,7 +112,7 @@ public final class SchemaMetaDataUtilTest {
         when(dataNodeContainedRule.getDataNodesByTableName("t_single")).thenReturn(mockSingleTableDataNodes());
         GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(mock(DatabaseType.class), Collections.emptyMap(), mockDataSourceMap(),
                 Arrays.asList(dataNodeContainedRule, mock(DataSourceContainedRule.class)), mock(ConfigurationProperties.class), "public");
-        Collection<SchemaMetaDataLoaderMaterial> actual = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(Collections.singleton("t_single"), material, false);
+        Collection<SchemaMetaDataLoaderMaterial> actual = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(Collections.singleton("t_single"), material, false, 1000);
         assertThat(actual.size(), is(1));
         Iterator<SchemaMetaDataLoaderMaterial> iterator = actual.iterator();
         SchemaMetaDataLoaderMaterial firstMaterial = iterator.next();
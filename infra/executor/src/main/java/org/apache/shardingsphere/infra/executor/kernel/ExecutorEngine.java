@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -47,6 +48,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final KernelExecutorMode executorMode) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, executorMode);
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -57,6 +62,17 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and executor mode.
+     *
+     * @param executorSize executor size, ignored when executor mode is virtual
+     * @param executorMode executor mode
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSizeAndMode(final int executorSize, final KernelExecutorMode executorMode) {
+        return new ExecutorEngine(executorSize, executorMode);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
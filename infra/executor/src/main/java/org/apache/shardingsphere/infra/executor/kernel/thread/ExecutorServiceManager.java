@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -29,10 +31,13 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
+    private static final String THREAD_PER_TASK_EXECUTOR_METHOD = "newThreadPerTaskExecutor";
+    
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
     private final ExecutorService executorService;
@@ -42,7 +47,15 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, KernelExecutorMode.FIXED);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final KernelExecutorMode executorMode) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorMode);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final KernelExecutorMode executorMode) {
+        executorService = TtlExecutors.getTtlExecutorService(KernelExecutorMode.VIRTUAL == executorMode ? getVirtualExecutorService(executorSize, nameFormat) : getExecutorService(executorSize, nameFormat));
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -50,6 +63,19 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getVirtualExecutorService(final int executorSize, final String nameFormat) {
+        if (!ExecutorThreadFactoryBuilder.isVirtualThreadSupported()) {
+            log.warn("Virtual thread is unsupported by current JDK, fall back to `{}` kernel executor mode with executor size {}.", KernelExecutorMode.FIXED, executorSize);
+            return getExecutorService(executorSize, nameFormat);
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod(THREAD_PER_TASK_EXECUTOR_METHOD, ThreadFactory.class).invoke(null, ExecutorThreadFactoryBuilder.buildVirtual(nameFormat));
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Thread per task executor is unsupported by current JDK, fall back to `{}` kernel executor mode with executor size {}.", KernelExecutorMode.FIXED, executorSize);
+            return getExecutorService(executorSize, nameFormat);
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -20,17 +20,22 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Executor thread factory builder.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
     
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = loadVirtualThreadFactory();
+    
     /**
      * Build thread factory with thread name format.
      * 
@@ -40,4 +45,44 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Judge whether virtual thread is supported by current JDK.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isVirtualThreadSupported() {
+        return null != VIRTUAL_THREAD_FACTORY;
+    }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     * 
+     * <p>Threads are named as same as {@link #build(String)}, and virtual threads are always daemon threads.
+     * Platform thread factory is built if virtual thread is unsupported by current JDK.</p>
+     *
+     * @param nameFormat thread name format
+     * @return thread factory
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) {
+        if (!isVirtualThreadSupported()) {
+            log.warn("Virtual thread is unsupported by current JDK, use platform thread `{}` instead.", NAME_FORMAT_PREFIX + nameFormat);
+            return build(nameFormat);
+        }
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread result = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+            return result;
+        };
+    }
+    
+    private static ThreadFactory loadVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            return null;
+        }
+    }
 }
@@ -18,13 +18,17 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.TransmittableThreadLocal;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.junit.Test;
 
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
 
 public final class ExecutorServiceManagerTest {
     
@@ -56,4 +60,29 @@ public final class ExecutorServiceManagerTest {
             throw ex;
         }
     }
+    
+    @Test(timeout = 1000L)
+    public void assertThreadLocalValueTransmittedWithVirtualMode() throws InterruptedException, ExecutionException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, KernelExecutorMode.VIRTUAL);
+        TRANSMITTABLE_THREAD_LOCAL.set("foo");
+        assertThat(executorServiceManager.getExecutorService().submit(TRANSMITTABLE_THREAD_LOCAL::get).get(), is("foo"));
+        executorServiceManager.close();
+    }
+    
+    @Test(timeout = 1000L)
+    public void assertThreadNameAndDaemonWithVirtualMode() throws InterruptedException, ExecutionException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, "Test-%d", KernelExecutorMode.VIRTUAL);
+        assertThat(executorServiceManager.getExecutorService().submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-Test-0"));
+        assertTrue(executorServiceManager.getExecutorService().submit(() -> Thread.currentThread().isDaemon()).get());
+        executorServiceManager.close();
+    }
+    
+    @Test(timeout = 1000L)
+    public void assertFixedThreadPoolWithVirtualModeWhenVirtualThreadUnsupported() throws InterruptedException, ExecutionException {
+        assumeFalse(ExecutorThreadFactoryBuilder.isVirtualThreadSupported());
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, "Test-%d", KernelExecutorMode.VIRTUAL);
+        assertThat(executorServiceManager.getExecutorService().submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-Test-0"));
+        assertThat(executorServiceManager.getExecutorService().submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-Test-0"));
+        executorServiceManager.close();
+    }
 }
@@ -56,6 +56,28 @@ public final class BatchExecutionUnit {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
     
+    /**
+     * Map times of use JDBC API call addBatch to last actual call addBatch, which means the rows are coalesced into one statement.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     */
+    public void mapCoalescedAddBatchCount(final int jdbcAddBatchTimes) {
+        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes - 1);
+    }
+    
+    /**
+     * Get row counts of every actual call addBatch.
+     *
+     * @return row counts of every actual call addBatch
+     */
+    public int[] getActualAddBatchRowCounts() {
+        int[] result = new int[actualCallAddBatchTimes];
+        for (int each : jdbcAndActualAddBatchCallTimesMap.values()) {
+            result[each]++;
+        }
+        return result;
+    }
+    
     /**
      * Get parameter sets.
      * 
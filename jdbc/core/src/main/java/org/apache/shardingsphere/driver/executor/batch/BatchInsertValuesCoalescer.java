@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Batch insert values coalescer, which coalesces batched single row INSERT statements routed to same data node into multiple rows INSERT statements.
+ */
+@RequiredArgsConstructor
+public final class BatchInsertValuesCoalescer {
+    
+    private final int coalesceSize;
+    
+    /**
+     * Judge whether batched statements can be coalesced.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return can be coalesced or not
+     */
+    public static boolean isCoalescible(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        InsertStatement insertStatement = insertStatementContext.getSqlStatement();
+        return 1 == insertStatement.getValues().size() && null == insertStatementContext.getInsertSelectContext() && null == insertStatementContext.getOnDuplicateKeyUpdateValueContext()
+                && !InsertStatementHandler.getOnDuplicateKeyColumnsSegment(insertStatement).isPresent() && !InsertStatementHandler.getSetAssignmentSegment(insertStatement).isPresent()
+                && !InsertStatementHandler.getReturningSegment(insertStatement).isPresent() && !InsertStatementHandler.getOutputSegment(insertStatement).isPresent()
+                && !InsertStatementHandler.getInsertMultiTableElementSegment(insertStatement).isPresent();
+    }
+    
+    /**
+     * Coalesce batch execution unit.
+     *
+     * @param batchExecutionUnit batch execution unit to be coalesced
+     * @return coalesced batch execution units, contains original batch execution unit only if it can not be coalesced
+     */
+    public Collection<BatchExecutionUnit> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        int rowCount = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size();
+        String sql = batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().trim();
+        List<Object> params = batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters();
+        if (coalesceSize < 2 || rowCount < 2 || 0 != params.size() % rowCount) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        int valuesStartIndex = findValuesStartIndex(sql);
+        if (-1 == valuesStartIndex || countParameterMarkers(sql.substring(valuesStartIndex)) != params.size() / rowCount) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        String values = sql.substring(valuesStartIndex);
+        int paramCountPerRow = params.size() / rowCount;
+        int coalescedRowCount = rowCount / coalesceSize * coalesceSize;
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        BatchExecutionUnit coalescedUnit = null;
+        if (coalescedRowCount > 0) {
+            coalescedUnit = createBatchExecutionUnit(batchExecutionUnit.getExecutionUnit(), sql, values, coalesceSize, params.subList(0, coalescedRowCount * paramCountPerRow));
+            result.add(coalescedUnit);
+        }
+        BatchExecutionUnit remainderUnit = null;
+        if (coalescedRowCount < rowCount) {
+            remainderUnit = createBatchExecutionUnit(batchExecutionUnit.getExecutionUnit(), sql, values, rowCount - coalescedRowCount, params.subList(coalescedRowCount * paramCountPerRow, params.size()));
+            result.add(remainderUnit);
+        }
+        int rowIndex = 0;
+        for (int each : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().keySet()) {
+            BatchExecutionUnit target = rowIndex < coalescedRowCount ? coalescedUnit : remainderUnit;
+            if (0 == rowIndex % coalesceSize) {
+                target.mapAddBatchCount(each);
+            } else {
+                target.mapCoalescedAddBatchCount(each);
+            }
+            rowIndex++;
+        }
+        return result;
+    }
+    
+    private int findValuesStartIndex(final String sql) {
+        if (sql.isEmpty() || ')' != sql.charAt(sql.length() - 1)) {
+            return -1;
+        }
+        int result = -1;
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (0 != quote) {
+                if (quote == each) {
+                    quote = 0;
+                }
+            } else if (isQuote(each)) {
+                quote = each;
+            } else if ('(' == each) {
+                if (0 == depth) {
+                    result = i;
+                }
+                depth++;
+            } else if (')' == each) {
+                depth--;
+            }
+        }
+        return 0 == depth && 0 == quote && result > 0 && isValuesKeyword(sql.substring(0, result)) ? result : -1;
+    }
+    
+    private boolean isQuote(final char value) {
+        return '\'' == value || '"' == value || '`' == value;
+    }
+    
+    private boolean isValuesKeyword(final String sqlBeforeValues) {
+        String keyword = sqlBeforeValues.trim().toUpperCase();
+        return keyword.endsWith("VALUES") || keyword.endsWith("VALUE");
+    }
+    
+    private int countParameterMarkers(final String values) {
+        int result = 0;
+        char quote = 0;
+        for (int i = 0; i < values.length(); i++) {
+            char each = values.charAt(i);
+            if (0 != quote) {
+                if (quote == each) {
+                    quote = 0;
+                }
+            } else if (isQuote(each)) {
+                quote = each;
+            } else if ('?' == each) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final ExecutionUnit executionUnit, final String sql, final String values, final int rowCount, final List<Object> params) {
+        StringBuilder coalescedSQL = new StringBuilder(sql.length() + (values.length() + 2) * (rowCount - 1)).append(sql);
+        for (int i = 1; i < rowCount; i++) {
+            coalescedSQL.append(", ").append(values);
+        }
+        SQLUnit sqlUnit = new SQLUnit(coalescedSQL.toString(), new ArrayList<>(params), executionUnit.getSqlUnit().getTableRouteMappers());
+        return new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit));
+    }
+}
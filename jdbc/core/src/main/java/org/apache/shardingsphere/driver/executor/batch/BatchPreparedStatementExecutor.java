@@ -61,6 +61,8 @@ public final class BatchPreparedStatementExecutor {
     
     private int batchCount;
     
+    private boolean coalesced;
+    
     private final String databaseName;
     
     public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final String databaseName) {
@@ -126,6 +128,26 @@ public final class BatchPreparedStatementExecutor {
         batchExecutionUnits.addAll(newExecutionUnits);
     }
     
+    /**
+     * Coalesce batched single row INSERT statements routed to same data node into multiple rows INSERT statements.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param coalesceSize max rows of every coalesced INSERT statement
+     */
+    public void coalesceInsertValues(final SQLStatementContext<?> sqlStatementContext, final int coalesceSize) {
+        if (coalesceSize < 2 || !BatchInsertValuesCoalescer.isCoalescible(sqlStatementContext)) {
+            return;
+        }
+        BatchInsertValuesCoalescer coalescer = new BatchInsertValuesCoalescer(coalesceSize);
+        Collection<BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            coalescedBatchExecutionUnits.addAll(coalescer.coalesce(each));
+        }
+        batchExecutionUnits.clear();
+        batchExecutionUnits.addAll(coalescedBatchExecutionUnits);
+        coalesced = true;
+    }
+    
     /**
      * Execute batch.
      *
@@ -153,7 +175,10 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        if (isNeedAccumulate(sqlStatementContext)) {
+            return accumulate(results, null);
+        }
+        return coalesced ? accumulate(results, executionGroupContext.getInputGroups().iterator().next().getInputs().iterator().next().getExecutionUnit().getDataSourceName()) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
@@ -165,20 +190,26 @@ public final class BatchPreparedStatementExecutor {
         return false;
     }
     
-    private int[] accumulate(final List<int[]> results) {
+    private int[] accumulate(final List<int[]> results, final String dataSourceName) {
         int[] result = new int[batchCount];
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                if (null != dataSourceName && !dataSourceName.equals(eachUnit.getExecutionUnit().getDataSourceName())) {
+                    count++;
+                    continue;
+                }
                 Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
+                int[] actualAddBatchRowCounts = new int[0];
                 for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
                     if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
                         jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
+                        actualAddBatchRowCounts = eachExecutionUnit.getActualAddBatchRowCounts();
                         break;
                     }
                 }
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
+                    int value = null == results.get(count) ? 0 : getRowUpdateCount(results.get(count)[entry.getValue()], actualAddBatchRowCounts[entry.getValue()]);
                     result[entry.getKey()] += value;
                 }
                 count++;
@@ -187,6 +218,13 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
+    private int getRowUpdateCount(final int updateCount, final int rowCount) {
+        if (1 == rowCount) {
+            return updateCount;
+        }
+        return updateCount == rowCount ? 1 : Statement.SUCCESS_NO_INFO;
+    }
+    
     private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
         return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
                 && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
@@ -249,6 +287,7 @@ public final class BatchPreparedStatementExecutor {
         getStatements().clear();
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
+        coalesced = false;
         batchExecutionUnits.clear();
     }
 }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,6 +48,16 @@ public final class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    public void assertGetActualAddBatchRowCountsWithCoalescedAddBatch() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Arrays.asList(1, 2, 3))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        batchExecutionUnit.mapCoalescedAddBatchCount(1);
+        batchExecutionUnit.mapAddBatchCount(2);
+        assertThat(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(batchExecutionUnit.getActualAddBatchRowCounts(), is(new int[]{2, 1}));
+    }
+    
     @Test
     public void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
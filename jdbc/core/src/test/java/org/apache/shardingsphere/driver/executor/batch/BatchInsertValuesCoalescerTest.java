@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BatchInsertValuesCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    public void assertIsCoalescibleWithSingleRowInsert() {
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(createInsertStatement());
+        assertTrue(BatchInsertValuesCoalescer.isCoalescible(sqlStatementContext));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithOnDuplicateKeyUpdate() {
+        MySQLInsertStatement insertStatement = createInsertStatement();
+        insertStatement.setOnDuplicateKeyColumns(new OnDuplicateKeyColumnsSegment(0, 0, Collections.emptyList()));
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(insertStatement);
+        assertFalse(BatchInsertValuesCoalescer.isCoalescible(sqlStatementContext));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithoutInsert() {
+        assertFalse(BatchInsertValuesCoalescer.isCoalescible(mock(SQLStatementContext.class)));
+    }
+    
+    @Test
+    public void assertCoalesce() {
+        Iterator<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(2).coalesce(createBatchExecutionUnit(SQL, 5, Arrays.asList(1, 10, 2, 20, 3, 30, 4, 40, 5, 50))).iterator();
+        BatchExecutionUnit coalescedUnit = actual.next();
+        assertThat(coalescedUnit.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(coalescedUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(coalescedUnit.getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(1, 10, 2, 20, 3, 30, 4, 40)));
+        assertThat(coalescedUnit.getJdbcAndActualAddBatchCallTimesMap(), is(createAddBatchCallTimesMap(0, 0, 1, 1)));
+        assertThat(coalescedUnit.getActualAddBatchRowCounts(), is(new int[]{2, 2}));
+        assertThat(coalescedUnit.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(1, 10, 2, 20), Arrays.<Object>asList(3, 30, 4, 40))));
+        BatchExecutionUnit remainderUnit = actual.next();
+        assertThat(remainderUnit.getExecutionUnit().getSqlUnit().getSql(), is(SQL));
+        assertThat(remainderUnit.getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(5, 50)));
+        assertThat(remainderUnit.getJdbcAndActualAddBatchCallTimesMap(), is(Collections.singletonMap(4, 0)));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertCoalesceWithQuotedLiteral() {
+        String sql = "INSERT INTO t_order_0 (order_id, status) VALUES (?, 'in (?)')";
+        Iterator<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(10).coalesce(createBatchExecutionUnit(sql, 2, Arrays.asList(1, 2))).iterator();
+        BatchExecutionUnit coalescedUnit = actual.next();
+        assertThat(coalescedUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'in (?)'), (?, 'in (?)')"));
+        assertThat(coalescedUnit.getJdbcAndActualAddBatchCallTimesMap(), is(createAddBatchCallTimesMap(0, 0)));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertNotCoalesceWithSingleRow() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit(SQL, 1, Arrays.asList(1, 10));
+        assertThat(new BatchInsertValuesCoalescer(2).coalesce(batchExecutionUnit).iterator().next(), sameInstance(batchExecutionUnit));
+    }
+    
+    @Test
+    public void assertNotCoalesceWithoutTrailingValues() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?);", 2, Arrays.asList(1, 10, 2, 20));
+        assertThat(new BatchInsertValuesCoalescer(2).coalesce(batchExecutionUnit).iterator().next(), sameInstance(batchExecutionUnit));
+    }
+    
+    @Test
+    public void assertNotCoalesceWithMismatchedParameters() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, 1)", 2, Arrays.asList(1, 10, 2, 20));
+        assertThat(new BatchInsertValuesCoalescer(2).coalesce(batchExecutionUnit).iterator().next(), sameInstance(batchExecutionUnit));
+    }
+    
+    private MySQLInsertStatement createInsertStatement() {
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.getValues().add(new InsertValuesSegment(0, 0, Collections.emptyList()));
+        return result;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int rowCount, final List<Object> params) {
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, new ArrayList<>(params))));
+        for (int i = 0; i < rowCount; i++) {
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+    
+    private Map<Integer, Integer> createAddBatchCallTimesMap(final int... actualAddBatchCallTimes) {
+        Map<Integer, Integer> result = new LinkedHashMap<>(actualAddBatchCallTimes.length, 1);
+        for (int i = 0; i < actualAddBatchCallTimes.length; i++) {
+            result.put(i, actualAddBatchCallTimes[i]);
+        }
+        return result;
+    }
+}
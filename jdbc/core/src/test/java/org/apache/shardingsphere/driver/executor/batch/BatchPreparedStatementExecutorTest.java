@@ -57,6 +57,7 @@ import org.mockito.quality.Strictness;
 import javax.sql.DataSource;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -191,6 +192,21 @@ public final class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    public void assertExecuteBatchWithCoalescedInsertValues() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{2, Statement.SUCCESS_NO_INFO});
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Arrays.asList(1, 2, 3, 4))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        batchExecutionUnit.mapCoalescedAddBatchCount(1);
+        batchExecutionUnit.mapAddBatchCount(2);
+        batchExecutionUnit.mapCoalescedAddBatchCount(3);
+        List<JDBCExecutionUnit> executionUnits = Collections.singletonList(
+                new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Arrays.asList(1, 2, 3, 4))), ConnectionMode.MEMORY_STRICTLY, preparedStatement));
+        setFields(Collections.singletonList(new ExecutionGroup<>(executionUnits)), Collections.singletonList(batchExecutionUnit), 4);
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -209,14 +225,14 @@ public final class BatchPreparedStatementExecutorTest {
             batchExecutionUnits.add(batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
-        setFields(executionGroups, batchExecutionUnits);
+        setFields(executionGroups, batchExecutionUnits, 2);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits, final int batchCount) {
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor, new ExecutionGroupContext<>(executionGroups,
                 new ExecutionGroupReportContext("logic_db")));
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits"), executor, batchExecutionUnits);
-        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, 2);
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, batchCount);
     }
 }
@@ -174,6 +174,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String uniqueKey);
     
+    /**
+     * Build split by unique key range SQL, which queries minimum value, maximum value and count of next range.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param firstQuery first query, the next queries are after maximum value of previous range
+     * @return split SQL
+     */
+    String buildSplitByUniqueKeyRangeSQL(String schemaName, String tableName, String uniqueKey, boolean firstQuery);
+    
     /**
      * Build CRC32 SQL.
      *
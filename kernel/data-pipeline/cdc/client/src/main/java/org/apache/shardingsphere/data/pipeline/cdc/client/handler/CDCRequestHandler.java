@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 
+import com.google.protobuf.InvalidProtocolBufferException;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,12 +27,14 @@ import org.apache.shardingsphere.data.pipeline.cdc.client.event.StreamDataEvent;
 import org.apache.shardingsphere.data.pipeline.cdc.client.importer.DataSourceImporter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.cdc.client.parameter.StartCDCClientParameter;
+import org.apache.shardingsphere.data.pipeline.cdc.client.util.RecordBatchConvertUtil;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.RequestIdUtil;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Builder;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartStreamingRequestBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StopStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
@@ -60,7 +63,7 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) {
         if (evt instanceof StreamDataEvent) {
             StreamDataRequestBody streamDataRequestBody = StreamDataRequestBody.newBuilder().setDatabase(parameter.getDatabase()).setFull(parameter.isFull())
-                    .addAllSourceSchemaTables(parameter.getSchemaTables()).build();
+                    .addAllSourceSchemaTables(parameter.getSchemaTables()).setStreamingOption(parameter.getStreamingOption()).build();
             CDCRequest request = CDCRequest.newBuilder().setRequestId(RequestIdUtil.generateRequestId()).setType(Type.STREAM_DATA).setStreamDataRequestBody(streamDataRequestBody).build();
             ctx.writeAndFlush(request);
         }
@@ -91,7 +94,14 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     }
     
     private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
-        List<Record> recordsList = result.getRecordsList();
+        List<Record> recordsList;
+        try {
+            recordsList = result.hasRecordBatch() ? RecordBatchConvertUtil.convertToRecords(result.getRecordBatch()) : result.getRecordsList();
+        } catch (final InvalidProtocolBufferException ex) {
+            log.error("decode record batch failed, ack id is {}", result.getAckId(), ex);
+            sendStopStreamingRequest(ctx);
+            return;
+        }
         for (Record each : recordsList) {
             try {
                 importer.write(each);
@@ -104,6 +114,13 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
         ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
     }
     
+    private void sendStopStreamingRequest(final ChannelHandlerContext ctx) {
+        ClientConnectionContext connectionContext = ctx.channel().attr(ClientConnectionContext.CONTEXT_KEY).get();
+        StopStreamingRequestBody stopStreamingRequest = StopStreamingRequestBody.newBuilder().setStreamingId(connectionContext.getStreamingId()).build();
+        ctx.writeAndFlush(CDCRequest.newBuilder().setRequestId(RequestIdUtil.generateRequestId()).setType(Type.STOP_STREAMING).setStopStreamingRequestBody(stopStreamingRequest).build());
+        connectionContext.setStatus(ClientConnectionStatus.CONNECTED);
+    }
+    
     @Override
     public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
         importer.close();
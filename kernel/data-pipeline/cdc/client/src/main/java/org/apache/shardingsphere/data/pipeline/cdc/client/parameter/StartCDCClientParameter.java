@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody.SchemaTable;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOption;
 
 import java.util.List;
 
@@ -48,5 +49,7 @@ public final class StartCDCClientParameter {
     
     private boolean full;
     
+    private StreamingOption streamingOption = StreamingOption.getDefaultInstance();
+    
     private final ImportDataSourceParameter importDataSourceParameter;
 }
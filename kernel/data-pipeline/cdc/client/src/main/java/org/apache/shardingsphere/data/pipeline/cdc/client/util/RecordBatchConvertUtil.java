@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.InvalidProtocolBufferException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.common.RecordBatchCompressionUtil;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.NullValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords.ColumnValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecordsList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Record batch convert util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecordBatchConvertUtil {
+    
+    private static final Any NULL_VALUE = Any.pack(NullValue.getDefaultInstance());
+    
+    /**
+     * Convert record batch to records.
+     *
+     * @param recordBatch record batch
+     * @return records
+     * @throws InvalidProtocolBufferException invalid protocol buffer exception
+     */
+    public static List<Record> convertToRecords(final RecordBatch recordBatch) throws InvalidProtocolBufferException {
+        TableRecordsList tableRecordsList = TableRecordsList.parseFrom(RecordBatchCompressionUtil.decompress(recordBatch.getPayload(), recordBatch.getCompression()));
+        List<Record> result = new ArrayList<>(recordBatch.getRecordCount());
+        for (TableRecords each : tableRecordsList.getTableRecordsList()) {
+            for (int i = 0; i < each.getDataChangeTypesCount(); i++) {
+                Record.Builder record = Record.newBuilder().setTableMetaData(each.getTableMetaData()).setDataChangeType(each.getDataChangeTypes(i));
+                for (ColumnValues columnValues : each.getColumnsList()) {
+                    record.putBefore(columnValues.getName(), getColumnValue(columnValues.getBefore(), i));
+                    record.putAfter(columnValues.getName(), getColumnValue(columnValues.getAfter(), i));
+                }
+                result.add(record.build());
+            }
+        }
+        return result;
+    }
+    
+    private static Any getColumnValue(final ColumnVector columnVector, final int index) {
+        return columnVector.getNulls(index) ? NULL_VALUE : Any.newBuilder().setTypeUrl(columnVector.getTypeUrl()).setValue(columnVector.getValues(index)).build();
+    }
+}
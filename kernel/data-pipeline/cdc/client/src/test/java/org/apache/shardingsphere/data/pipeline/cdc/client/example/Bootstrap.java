@@ -46,6 +46,8 @@ public final class Bootstrap {
         parameter.setSchemaTables(Collections.singletonList(SchemaTable.newBuilder().setTable("t_order").build()));
         // support MySQL, PostgreSQL, openGauss
         parameter.setDatabaseType("openGauss");
+        // batched record format with compression and credit based flow control is optional
+        // parameter.setStreamingOption(StreamingOption.newBuilder().setRecordFormat(RecordFormat.BATCH).setCompression(Compression.DEFLATE).setCredits(16).build());
         CDCClient cdcClient = new CDCClient(parameter);
         cdcClient.start();
     }
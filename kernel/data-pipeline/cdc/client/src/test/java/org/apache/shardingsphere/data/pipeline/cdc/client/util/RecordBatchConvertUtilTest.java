@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import org.apache.shardingsphere.data.pipeline.cdc.common.RecordBatchCompressionUtil;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.TableMetaData;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.NullValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch.Compression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords.ColumnValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecordsList;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RecordBatchConvertUtilTest {
+    
+    @Test
+    public void assertConvertToRecordsWithoutCompression() throws InvalidProtocolBufferException {
+        assertRecords(RecordBatchConvertUtil.convertToRecords(createRecordBatch(Compression.NONE)));
+    }
+    
+    @Test
+    public void assertConvertToRecordsWithDeflateCompression() throws InvalidProtocolBufferException {
+        assertRecords(RecordBatchConvertUtil.convertToRecords(createRecordBatch(Compression.DEFLATE)));
+    }
+    
+    @Test
+    public void assertConvertToRecordsWithEmptyRecordBatch() throws InvalidProtocolBufferException {
+        RecordBatch recordBatch = RecordBatch.newBuilder().setPayload(RecordBatchCompressionUtil.compress(TableRecordsList.getDefaultInstance().toByteString(), Compression.DEFLATE))
+                .setCompression(Compression.DEFLATE).build();
+        assertTrue(RecordBatchConvertUtil.convertToRecords(recordBatch).isEmpty());
+    }
+    
+    private RecordBatch createRecordBatch(final Compression compression) {
+        TableRecords orderRecords = TableRecords.newBuilder().setTableMetaData(TableMetaData.newBuilder().setDatabase("foo_db").setTableName("t_order").addUniqueKeyNames("order_id"))
+                .addDataChangeTypes(DataChangeType.INSERT).addDataChangeTypes(DataChangeType.UPDATE)
+                .addColumns(ColumnValues.newBuilder().setName("order_id").setBefore(createNullColumnVector(2))
+                        .setAfter(ColumnVector.newBuilder().setTypeUrl(Any.pack(Int32Value.of(1)).getTypeUrl())
+                                .addValues(Int32Value.of(1).toByteString()).addNulls(false).addValues(Int32Value.of(2).toByteString()).addNulls(false)))
+                .addColumns(ColumnValues.newBuilder().setName("status").setBefore(createNullColumnVector(2))
+                        .setAfter(ColumnVector.newBuilder().setTypeUrl(Any.pack(StringValue.of("ok")).getTypeUrl())
+                                .addValues(StringValue.of("ok").toByteString()).addNulls(false).addValues(ByteString.EMPTY).addNulls(true)))
+                .build();
+        TableRecords orderItemRecords = TableRecords.newBuilder().setTableMetaData(TableMetaData.newBuilder().setDatabase("foo_db").setTableName("t_order_item"))
+                .addDataChangeTypes(DataChangeType.DELETE)
+                .addColumns(ColumnValues.newBuilder().setName("item_id").setBefore(ColumnVector.newBuilder().setTypeUrl(Any.pack(Int32Value.of(3)).getTypeUrl())
+                        .addValues(Int32Value.of(3).toByteString()).addNulls(false)).setAfter(createNullColumnVector(1)))
+                .build();
+        ByteString payload = TableRecordsList.newBuilder().addTableRecords(orderRecords).addTableRecords(orderItemRecords).build().toByteString();
+        return RecordBatch.newBuilder().setCompression(compression).setRecordCount(3).setPayload(RecordBatchCompressionUtil.compress(payload, compression)).build();
+    }
+    
+    private ColumnVector createNullColumnVector(final int rowCount) {
+        ColumnVector.Builder result = ColumnVector.newBuilder();
+        for (int i = 0; i < rowCount; i++) {
+            result.addValues(ByteString.EMPTY).addNulls(true);
+        }
+        return result.build();
+    }
+    
+    private void assertRecords(final List<Record> actual) throws InvalidProtocolBufferException {
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getTableMetaData().getTableName(), is("t_order"));
+        assertThat(actual.get(0).getTableMetaData().getUniqueKeyNamesList().get(0), is("order_id"));
+        assertThat(actual.get(0).getDataChangeType(), is(DataChangeType.INSERT));
+        assertTrue(actual.get(0).getBeforeMap().get("order_id").is(NullValue.class));
+        assertThat(actual.get(0).getAfterMap().get("order_id").unpack(Int32Value.class).getValue(), is(1));
+        assertThat(actual.get(0).getAfterMap().get("status").unpack(StringValue.class).getValue(), is("ok"));
+        assertThat(actual.get(1).getDataChangeType(), is(DataChangeType.UPDATE));
+        assertThat(actual.get(1).getAfterMap().get("order_id").unpack(Int32Value.class).getValue(), is(2));
+        assertTrue(actual.get(1).getAfterMap().get("status").is(NullValue.class));
+        assertThat(actual.get(2).getTableMetaData().getTableName(), is("t_order_item"));
+        assertThat(actual.get(2).getDataChangeType(), is(DataChangeType.DELETE));
+        assertThat(actual.get(2).getBeforeMap().get("item_id").unpack(Int32Value.class).getValue(), is(3));
+        assertTrue(actual.get(2).getAfterMap().get("item_id").is(NullValue.class));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.ack;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.core.connector.SocketSinkImporterConnector;
 import org.apache.shardingsphere.data.pipeline.cdc.core.importer.SocketSinkImporter;
 
 import java.util.Map;
@@ -38,12 +39,15 @@ public final class CDCAckHolder {
     /**
      * the ack of CDC.
      *
+     * <p>Every ack returns one credit to the socket sink importer connector which sent the data record result.</p>
+     *
      * @param ackId ack id
      */
     public void ack(final String ackId) {
         Map<SocketSinkImporter, CDCAckPosition> importerDataRecordMap = ackIdPositionMap.remove(ackId);
         if (null != importerDataRecordMap) {
             importerDataRecordMap.forEach(SocketSinkImporter::ackWithLastDataRecord);
+            importerDataRecordMap.keySet().stream().map(SocketSinkImporter::getImporterConnector).distinct().forEach(SocketSinkImporterConnector::releaseCredit);
         }
     }
     
@@ -31,7 +31,10 @@ import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckHolder;
 import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckPosition;
 import org.apache.shardingsphere.data.pipeline.cdc.core.importer.SocketSinkImporter;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseGenerator;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOption;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOption.RecordFormat;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch.Compression;
 import org.apache.shardingsphere.data.pipeline.cdc.util.CDCDataRecordUtil;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtil;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
@@ -48,6 +51,7 @@ import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
@@ -78,6 +82,10 @@ public final class SocketSinkImporterConnector implements ImporterConnector {
     
     private final Comparator<DataRecord> dataRecordComparator;
     
+    private final StreamingOption streamingOption;
+    
+    private final Semaphore credits;
+    
     private final Map<String, String> tableNameSchemaMap = new HashMap<>();
     
     private final Map<SocketSinkImporter, BlockingQueue<Record>> incrementalRecordMap = new ConcurrentHashMap<>();
@@ -88,6 +96,11 @@ public final class SocketSinkImporterConnector implements ImporterConnector {
     
     public SocketSinkImporterConnector(final Channel channel, final String database, final int jobShardingCount, final Collection<String> schemaTableNames,
                                        final Comparator<DataRecord> dataRecordComparator) {
+        this(channel, database, jobShardingCount, schemaTableNames, dataRecordComparator, StreamingOption.getDefaultInstance());
+    }
+    
+    public SocketSinkImporterConnector(final Channel channel, final String database, final int jobShardingCount, final Collection<String> schemaTableNames,
+                                       final Comparator<DataRecord> dataRecordComparator, final StreamingOption streamingOption) {
         this.channel = channel;
         this.database = database;
         this.jobShardingCount = jobShardingCount;
@@ -96,6 +109,8 @@ public final class SocketSinkImporterConnector implements ImporterConnector {
             tableNameSchemaMap.put(split[1], split[0]);
         });
         this.dataRecordComparator = dataRecordComparator;
+        this.streamingOption = streamingOption;
+        credits = streamingOption.getCredits() > 0 ? new Semaphore(streamingOption.getCredits()) : null;
     }
     
     @Override
@@ -133,20 +148,48 @@ public final class SocketSinkImporterConnector implements ImporterConnector {
         while (!channel.isWritable() && channel.isActive()) {
             doAwait();
         }
-        if (!channel.isActive()) {
+        if (!channel.isActive() || !acquireCredit()) {
             return;
         }
-        List<DataRecordResult.Record> records = new LinkedList<>();
+        List<DataRecord> dataRecords = new LinkedList<>();
         for (Record each : recordList) {
-            if (!(each instanceof DataRecord)) {
-                continue;
+            if (each instanceof DataRecord) {
+                dataRecords.add((DataRecord) each);
             }
-            DataRecord dataRecord = (DataRecord) each;
-            records.add(DataRecordResultConvertUtil.convertDataRecordToRecord(database, tableNameSchemaMap.get(dataRecord.getTableName()), dataRecord));
         }
         String ackId = CDCAckHolder.getInstance().bindAckIdWithPosition(importerDataRecordMap);
-        DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecords(records).setAckId(ackId).build();
-        channel.writeAndFlush(CDCResponseGenerator.succeedBuilder("").setDataRecordResult(dataRecordResult).build());
+        DataRecordResult.Builder dataRecordResult = DataRecordResult.newBuilder().setAckId(ackId);
+        if (RecordFormat.BATCH == streamingOption.getRecordFormat()) {
+            Compression compression = StreamingOption.Compression.DEFLATE == streamingOption.getCompression() ? Compression.DEFLATE : Compression.NONE;
+            dataRecordResult.setRecordBatch(DataRecordResultConvertUtil.convertDataRecordsToRecordBatch(database, tableNameSchemaMap, dataRecords, compression));
+        } else {
+            for (DataRecord each : dataRecords) {
+                dataRecordResult.addRecords(DataRecordResultConvertUtil.convertDataRecordToRecord(database, tableNameSchemaMap.get(each.getTableName()), each));
+            }
+        }
+        channel.writeAndFlush(CDCResponseGenerator.succeedBuilder("").setDataRecordResult(dataRecordResult.build()).build());
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private boolean acquireCredit() {
+        if (null == credits) {
+            return true;
+        }
+        while (channel.isActive()) {
+            if (credits.tryAcquire(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Release credit after data record result acked.
+     */
+    public void releaseCredit() {
+        if (null != credits) {
+            credits.release();
+        }
     }
     
     private void doAwait() {
@@ -53,6 +53,7 @@ public final class SocketSinkImporter extends AbstractLifecycleExecutor implemen
     
     private final PipelineChannel channel;
     
+    @Getter
     private final SocketSinkImporterConnector importerConnector;
     
     private final PipelineJobProgressListener jobProgressListener;
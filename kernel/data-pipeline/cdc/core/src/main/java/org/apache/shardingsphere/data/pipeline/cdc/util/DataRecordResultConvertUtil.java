@@ -19,14 +19,25 @@ package org.apache.shardingsphere.data.pipeline.cdc.util;
 
 import com.google.common.base.Strings;
 import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.common.RecordBatchCompressionUtil;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.TableMetaData;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.NullValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch.Compression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords.ColumnValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecordsList;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -37,6 +48,8 @@ import java.util.Map;
  */
 public final class DataRecordResultConvertUtil {
     
+    private static final String TYPE_URL_PREFIX = "type.googleapis.com/";
+    
     /**
      * Convert data record to record.
      *
@@ -58,14 +71,115 @@ public final class DataRecordResultConvertUtil {
         }
         TableMetaData metaData = TableMetaData.newBuilder().setDatabase(database).setSchema(Strings.nullToEmpty(schema)).setTableName(dataRecord.getTableName())
                 .addAllUniqueKeyNames(uniqueKeyNames).build();
-        DataChangeType dataChangeType = DataChangeType.UNKNOWN;
+        return DataRecordResult.Record.newBuilder().setTableMetaData(metaData).putAllBefore(beforeMap).putAllAfter(afterMap).setDataChangeType(getDataChangeType(dataRecord)).build();
+    }
+    
+    private static DataChangeType getDataChangeType(final DataRecord dataRecord) {
         if (IngestDataChangeType.INSERT.equals(dataRecord.getType())) {
-            dataChangeType = DataChangeType.INSERT;
-        } else if (IngestDataChangeType.UPDATE.equals(dataRecord.getType())) {
-            dataChangeType = DataChangeType.UPDATE;
-        } else if (IngestDataChangeType.DELETE.equals(dataRecord.getType())) {
-            dataChangeType = DataChangeType.DELETE;
+            return DataChangeType.INSERT;
+        }
+        if (IngestDataChangeType.UPDATE.equals(dataRecord.getType())) {
+            return DataChangeType.UPDATE;
+        }
+        if (IngestDataChangeType.DELETE.equals(dataRecord.getType())) {
+            return DataChangeType.DELETE;
+        }
+        return DataChangeType.UNKNOWN;
+    }
+    
+    /**
+     * Convert data records to record batch.
+     *
+     * <p>Consecutive data records of the same table are grouped into one table records, the order of data records is kept.
+     * Values are encoded per column, non null values of a column share one type, a data record starts a new group if its value types conflict with the current group.</p>
+     *
+     * @param database database
+     * @param tableNameSchemaMap table name and schema map
+     * @param dataRecords data records
+     * @param compression compression
+     * @return record batch
+     */
+    public static RecordBatch convertDataRecordsToRecordBatch(final String database, final Map<String, String> tableNameSchemaMap, final List<DataRecord> dataRecords,
+                                                              final Compression compression) {
+        TableRecordsList.Builder tableRecordsList = TableRecordsList.newBuilder();
+        TableRecords.Builder tableRecords = null;
+        for (DataRecord each : dataRecords) {
+            List<Message> beforeValues = new ArrayList<>(each.getColumnCount());
+            List<Message> afterValues = new ArrayList<>(each.getColumnCount());
+            for (Column column : each.getColumns()) {
+                beforeValues.add(ColumnValueConvertUtil.convertToProtobufMessage(column.getOldValue()));
+                afterValues.add(ColumnValueConvertUtil.convertToProtobufMessage(column.getValue()));
+            }
+            if (null == tableRecords || !isSameTableRecords(tableRecords, each) || !isSameColumnTypes(tableRecords, beforeValues, afterValues)) {
+                if (null != tableRecords) {
+                    tableRecordsList.addTableRecords(tableRecords);
+                }
+                tableRecords = createTableRecords(database, tableNameSchemaMap.get(each.getTableName()), each);
+            }
+            tableRecords.addDataChangeTypes(getDataChangeType(each));
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                ColumnValues.Builder columnValues = tableRecords.getColumnsBuilder(i);
+                addColumnValue(columnValues.getBeforeBuilder(), beforeValues.get(i));
+                addColumnValue(columnValues.getAfterBuilder(), afterValues.get(i));
+            }
+        }
+        if (null != tableRecords) {
+            tableRecordsList.addTableRecords(tableRecords);
+        }
+        return RecordBatch.newBuilder().setCompression(compression).setRecordCount(dataRecords.size())
+                .setPayload(RecordBatchCompressionUtil.compress(tableRecordsList.build().toByteString(), compression)).build();
+    }
+    
+    private static boolean isSameTableRecords(final TableRecords.Builder tableRecords, final DataRecord dataRecord) {
+        if (!tableRecords.getTableMetaData().getTableName().equals(dataRecord.getTableName()) || tableRecords.getColumnsCount() != dataRecord.getColumnCount()) {
+            return false;
+        }
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (!tableRecords.getColumns(i).getName().equals(dataRecord.getColumn(i).getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isSameColumnTypes(final TableRecords.Builder tableRecords, final List<Message> beforeValues, final List<Message> afterValues) {
+        for (int i = 0; i < tableRecords.getColumnsCount(); i++) {
+            ColumnValues columnValues = tableRecords.getColumns(i);
+            if (!isSameColumnType(columnValues.getBefore(), beforeValues.get(i)) || !isSameColumnType(columnValues.getAfter(), afterValues.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isSameColumnType(final ColumnVector columnVector, final Message value) {
+        return value instanceof NullValue || columnVector.getTypeUrl().isEmpty() || columnVector.getTypeUrl().equals(getTypeUrl(value));
+    }
+    
+    private static String getTypeUrl(final Message value) {
+        return TYPE_URL_PREFIX + value.getDescriptorForType().getFullName();
+    }
+    
+    private static void addColumnValue(final ColumnVector.Builder columnVector, final Message value) {
+        if (value instanceof NullValue) {
+            columnVector.addValues(ByteString.EMPTY).addNulls(true);
+            return;
+        }
+        if (columnVector.getTypeUrl().isEmpty()) {
+            columnVector.setTypeUrl(getTypeUrl(value));
+        }
+        columnVector.addValues(value.toByteString()).addNulls(false);
+    }
+    
+    private static TableRecords.Builder createTableRecords(final String database, final String schema, final DataRecord dataRecord) {
+        TableMetaData.Builder metaData = TableMetaData.newBuilder().setDatabase(database).setSchema(Strings.nullToEmpty(schema)).setTableName(dataRecord.getTableName());
+        TableRecords.Builder result = TableRecords.newBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            result.addColumns(ColumnValues.newBuilder().setName(each.getName()));
+            if (each.isUniqueKey()) {
+                metaData.addUniqueKeyNames(each.getName());
+            }
         }
-        return DataRecordResult.Record.newBuilder().setTableMetaData(metaData).putAllBefore(beforeMap).putAllAfter(afterMap).setDataChangeType(dataChangeType).build();
+        return result.setTableMetaData(metaData);
     }
 }
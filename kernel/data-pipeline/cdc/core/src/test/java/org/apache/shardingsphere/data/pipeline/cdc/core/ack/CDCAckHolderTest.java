@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.ack;
 
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.core.connector.SocketSinkImporterConnector;
 import org.apache.shardingsphere.data.pipeline.cdc.core.importer.SocketSinkImporter;
 import org.apache.shardingsphere.infra.util.reflection.ReflectionUtil;
 import org.junit.Test;
@@ -31,6 +32,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class CDCAckHolderTest {
     
@@ -39,6 +42,8 @@ public final class CDCAckHolderTest {
         CDCAckHolder cdcAckHolder = CDCAckHolder.getInstance();
         final Map<SocketSinkImporter, CDCAckPosition> importerDataRecordMap = new HashMap<>();
         SocketSinkImporter socketSinkImporter = mock(SocketSinkImporter.class);
+        SocketSinkImporterConnector importerConnector = mock(SocketSinkImporterConnector.class);
+        when(socketSinkImporter.getImporterConnector()).thenReturn(importerConnector);
         importerDataRecordMap.put(socketSinkImporter, new CDCAckPosition(new FinishedRecord(new FinishedPosition()), 0));
         Optional<Map<String, Map<SocketSinkImporter, CDCAckPosition>>> ackIdPositionMap = ReflectionUtil.getFieldValue(cdcAckHolder, "ackIdPositionMap");
         assertTrue(ackIdPositionMap.isPresent());
@@ -47,6 +52,7 @@ public final class CDCAckHolderTest {
         assertThat(ackIdPositionMap.get().size(), is(1));
         cdcAckHolder.ack(ackId);
         assertTrue(ackIdPositionMap.get().isEmpty());
+        verify(importerConnector).releaseCredit();
     }
     
     @Test
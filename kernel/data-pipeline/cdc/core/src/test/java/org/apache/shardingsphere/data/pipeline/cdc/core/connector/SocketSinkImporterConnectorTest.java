@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.connector;
+
+import io.netty.channel.Channel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckHolder;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.SocketSinkImporter;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOption;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.spi.importer.ImporterType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class SocketSinkImporterConnectorTest {
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private SocketSinkImporter socketSinkImporter;
+    
+    private SocketSinkImporterConnector importerConnector;
+    
+    @BeforeEach
+    public void setUp() {
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.isActive()).thenReturn(true);
+        importerConnector = new SocketSinkImporterConnector(channel, "foo_db", 1, Collections.singletonList("foo_schema.t_order"), null, StreamingOption.newBuilder().setCredits(1).build());
+        when(socketSinkImporter.getImporterConnector()).thenReturn(importerConnector);
+    }
+    
+    @Test
+    public void assertWriteAfterCreditReleasedByAck() throws InterruptedException {
+        importerConnector.write(createRecords(), socketSinkImporter, ImporterType.INVENTORY);
+        Thread writeThread = new Thread(() -> importerConnector.write(createRecords(), socketSinkImporter, ImporterType.INVENTORY));
+        writeThread.start();
+        ArgumentCaptor<CDCResponse> responseCaptor = ArgumentCaptor.forClass(CDCResponse.class);
+        verify(channel, after(500L).times(1)).writeAndFlush(responseCaptor.capture());
+        CDCAckHolder.getInstance().ack(responseCaptor.getValue().getDataRecordResult().getAckId());
+        writeThread.join(5000L);
+        assertFalse(writeThread.isAlive());
+        verify(channel, times(2)).writeAndFlush(any());
+    }
+    
+    @Test
+    public void assertWriteWithoutCreditWhenChannelInactive() {
+        importerConnector.write(createRecords(), socketSinkImporter, ImporterType.INVENTORY);
+        when(channel.isActive()).thenReturn(true, true, false);
+        importerConnector.write(createRecords(), socketSinkImporter, ImporterType.INVENTORY);
+        verify(channel, times(1)).writeAndFlush(any());
+    }
+    
+    @Test
+    public void assertReleaseCredit() {
+        importerConnector.write(createRecords(), socketSinkImporter, ImporterType.INVENTORY);
+        importerConnector.releaseCredit();
+        importerConnector.write(createRecords(), socketSinkImporter, ImporterType.INVENTORY);
+        verify(channel, times(2)).writeAndFlush(any());
+    }
+    
+    private List<Record> createRecords() {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 1);
+        result.setTableName("t_order");
+        result.setType(IngestDataChangeType.INSERT);
+        result.addColumn(new Column("order_id", 1, false, true));
+        return Collections.singletonList(result);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.common.RecordBatchCompressionUtil;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch.Compression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords.ColumnValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecords.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecordsList;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class DataRecordResultConvertUtilTest {
+    
+    @Test
+    public void assertConvertDataRecordToRecord() throws InvalidProtocolBufferException {
+        Record actual = DataRecordResultConvertUtil.convertDataRecordToRecord("foo_db", "foo_schema", createDataRecord("t_order", IngestDataChangeType.INSERT, 1, "ok"));
+        assertThat(actual.getTableMetaData().getTableName(), is("t_order"));
+        assertThat(actual.getTableMetaData().getUniqueKeyNamesList(), is(Collections.singletonList("order_id")));
+        assertThat(actual.getDataChangeType(), is(DataChangeType.INSERT));
+        assertThat(actual.getAfterMap().get("order_id").unpack(Int32Value.class).getValue(), is(1));
+    }
+    
+    @Test
+    public void assertConvertDataRecordsToRecordBatchWithoutCompression() throws InvalidProtocolBufferException {
+        RecordBatch actual = DataRecordResultConvertUtil.convertDataRecordsToRecordBatch("foo_db", Collections.singletonMap("t_order", "foo_schema"), Arrays.asList(
+                createDataRecord("t_order", IngestDataChangeType.INSERT, 1, "ok"), createDataRecord("t_order", IngestDataChangeType.UPDATE, 2, "fail"),
+                createDataRecord("t_order_item", IngestDataChangeType.DELETE, 3, "ok")), Compression.NONE);
+        assertThat(actual.getCompression(), is(Compression.NONE));
+        assertThat(actual.getRecordCount(), is(3));
+        assertTableRecordsList(TableRecordsList.parseFrom(actual.getPayload()));
+    }
+    
+    @Test
+    public void assertConvertDataRecordsToRecordBatchWithDeflateCompression() throws InvalidProtocolBufferException {
+        RecordBatch actual = DataRecordResultConvertUtil.convertDataRecordsToRecordBatch("foo_db", Collections.singletonMap("t_order", "foo_schema"), Arrays.asList(
+                createDataRecord("t_order", IngestDataChangeType.INSERT, 1, "ok"), createDataRecord("t_order", IngestDataChangeType.UPDATE, 2, "fail"),
+                createDataRecord("t_order_item", IngestDataChangeType.DELETE, 3, "ok")), Compression.DEFLATE);
+        assertThat(actual.getCompression(), is(Compression.DEFLATE));
+        assertTableRecordsList(TableRecordsList.parseFrom(RecordBatchCompressionUtil.decompress(actual.getPayload(), Compression.DEFLATE)));
+    }
+    
+    private void assertTableRecordsList(final TableRecordsList actual) throws InvalidProtocolBufferException {
+        assertThat(actual.getTableRecordsCount(), is(2));
+        TableRecords orderRecords = actual.getTableRecords(0);
+        assertThat(orderRecords.getTableMetaData().getSchema(), is("foo_schema"));
+        assertThat(orderRecords.getTableMetaData().getTableName(), is("t_order"));
+        assertThat(orderRecords.getDataChangeTypesList(), is(Arrays.asList(DataChangeType.INSERT, DataChangeType.UPDATE)));
+        assertThat(orderRecords.getColumnsCount(), is(2));
+        ColumnValues orderIdColumn = orderRecords.getColumns(0);
+        assertThat(orderIdColumn.getName(), is("order_id"));
+        assertThat(orderIdColumn.getAfter().getTypeUrl(), is(Any.pack(Int32Value.of(1)).getTypeUrl()));
+        assertThat(Int32Value.parseFrom(orderIdColumn.getAfter().getValues(1)).getValue(), is(2));
+        assertThat(orderIdColumn.getBefore().getTypeUrl(), is(""));
+        assertThat(orderIdColumn.getBefore().getNullsList(), is(Arrays.asList(true, true)));
+        ColumnValues statusColumn = orderRecords.getColumns(1);
+        assertThat(statusColumn.getName(), is("status"));
+        assertThat(statusColumn.getAfter().getTypeUrl(), is(Any.pack(StringValue.of("ok")).getTypeUrl()));
+        assertThat(StringValue.parseFrom(statusColumn.getAfter().getValues(1)).getValue(), is("fail"));
+        TableRecords orderItemRecords = actual.getTableRecords(1);
+        assertThat(orderItemRecords.getTableMetaData().getSchema(), is(""));
+        assertThat(orderItemRecords.getTableMetaData().getTableName(), is("t_order_item"));
+        assertThat(orderItemRecords.getDataChangeTypesList(), is(Collections.singletonList(DataChangeType.DELETE)));
+    }
+    
+    @Test
+    public void assertConvertDataRecordsToRecordBatchWithNullValues() throws InvalidProtocolBufferException {
+        RecordBatch actual = DataRecordResultConvertUtil.convertDataRecordsToRecordBatch("foo_db", Collections.emptyMap(), Arrays.asList(
+                createDataRecord("t_order", IngestDataChangeType.INSERT, 1, null), createDataRecord("t_order", IngestDataChangeType.INSERT, 2, "ok")), Compression.NONE);
+        TableRecordsList tableRecordsList = TableRecordsList.parseFrom(actual.getPayload());
+        assertThat(tableRecordsList.getTableRecordsCount(), is(1));
+        ColumnVector statusValues = tableRecordsList.getTableRecords(0).getColumns(1).getAfter();
+        assertThat(statusValues.getTypeUrl(), is(Any.pack(StringValue.of("ok")).getTypeUrl()));
+        assertThat(statusValues.getNullsList(), is(Arrays.asList(true, false)));
+        assertThat(statusValues.getValues(0), is(ByteString.EMPTY));
+        assertThat(StringValue.parseFrom(statusValues.getValues(1)).getValue(), is("ok"));
+    }
+    
+    @Test
+    public void assertConvertDataRecordsToRecordBatchWithDifferentColumnTypes() throws InvalidProtocolBufferException {
+        RecordBatch actual = DataRecordResultConvertUtil.convertDataRecordsToRecordBatch("foo_db", Collections.emptyMap(), Arrays.asList(
+                createDataRecord("t_order", IngestDataChangeType.INSERT, 1, "ok"), createDataRecord("t_order", IngestDataChangeType.INSERT, 2, 1)), Compression.NONE);
+        TableRecordsList tableRecordsList = TableRecordsList.parseFrom(actual.getPayload());
+        assertThat(tableRecordsList.getTableRecordsCount(), is(2));
+        assertThat(tableRecordsList.getTableRecords(0).getColumns(1).getAfter().getTypeUrl(), is(Any.pack(StringValue.of("ok")).getTypeUrl()));
+        assertThat(tableRecordsList.getTableRecords(1).getColumns(1).getAfter().getTypeUrl(), is(Any.pack(Int32Value.of(1)).getTypeUrl()));
+    }
+    
+    @Test
+    public void assertConvertDataRecordsToRecordBatchSameAsRecord() throws InvalidProtocolBufferException {
+        DataRecord dataRecord = createDataRecord("t_order", IngestDataChangeType.UPDATE, 1, "ok");
+        Record expected = DataRecordResultConvertUtil.convertDataRecordToRecord("foo_db", null, dataRecord);
+        RecordBatch actual = DataRecordResultConvertUtil.convertDataRecordsToRecordBatch("foo_db", Collections.emptyMap(), Collections.singletonList(dataRecord), Compression.DEFLATE);
+        TableRecords tableRecords = TableRecordsList.parseFrom(RecordBatchCompressionUtil.decompress(actual.getPayload(), Compression.DEFLATE)).getTableRecords(0);
+        assertThat(tableRecords.getTableMetaData(), is(expected.getTableMetaData()));
+        for (ColumnValues each : tableRecords.getColumnsList()) {
+            Any actualValue = Any.newBuilder().setTypeUrl(each.getAfter().getTypeUrl()).setValue(each.getAfter().getValues(0)).build();
+            assertThat(actualValue, is(expected.getAfterMap().get(each.getName())));
+        }
+    }
+    
+    private DataRecord createDataRecord(final String tableName, final String type, final int orderId, final Object status) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 2);
+        result.setTableName(tableName);
+        result.setType(type);
+        result.addColumn(new Column("order_id", orderId, false, true));
+        result.addColumn(new Column("status", status, false, false));
+        return result;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.common;
+
+import com.google.common.base.Preconditions;
+import com.google.protobuf.ByteString;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch.Compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Record batch compression util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecordBatchCompressionUtil {
+    
+    public static final int MAX_PAYLOAD_SIZE = 64 * 1024 * 1024;
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    /**
+     * Compress serialized records of record batch.
+     *
+     * @param data serialized records
+     * @param compression compression
+     * @return compressed payload
+     */
+    @SneakyThrows(IOException.class)
+    public static ByteString compress(final ByteString data, final Compression compression) {
+        if (Compression.DEFLATE != compression) {
+            return data;
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ByteString.Output result = ByteString.newOutput(Math.max(data.size() / 2, 64));
+        try (DeflaterOutputStream outputStream = new DeflaterOutputStream(result, deflater)) {
+            data.writeTo(outputStream);
+        } finally {
+            deflater.end();
+        }
+        return result.toByteString();
+    }
+    
+    /**
+     * Decompress payload of record batch, the size of serialized records is limited to {@link #MAX_PAYLOAD_SIZE}.
+     *
+     * @param payload payload
+     * @param compression compression
+     * @return serialized records
+     */
+    public static ByteString decompress(final ByteString payload, final Compression compression) {
+        return decompress(payload, compression, MAX_PAYLOAD_SIZE);
+    }
+    
+    /**
+     * Decompress payload of record batch.
+     *
+     * @param payload payload
+     * @param compression compression
+     * @param maxPayloadSize max size of serialized records
+     * @return serialized records
+     */
+    @SneakyThrows(IOException.class)
+    public static ByteString decompress(final ByteString payload, final Compression compression, final int maxPayloadSize) {
+        if (Compression.DEFLATE != compression) {
+            return payload;
+        }
+        ByteString.Output result = ByteString.newOutput(Math.min(Math.max(payload.size() * 2, 64), maxPayloadSize));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = new InflaterInputStream(payload.newInput())) {
+            int length;
+            while (-1 != (length = inputStream.read(buffer))) {
+                Preconditions.checkState(result.size() + length <= maxPayloadSize, "Decompressed payload size exceeds %s bytes.", maxPayloadSize);
+                result.write(buffer, 0, length);
+            }
+        }
+        return result.toByteString();
+    }
+}
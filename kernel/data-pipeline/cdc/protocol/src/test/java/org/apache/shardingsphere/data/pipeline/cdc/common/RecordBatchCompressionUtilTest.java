@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.common;
+
+import com.google.protobuf.ByteString;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch.Compression;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class RecordBatchCompressionUtilTest {
+    
+    @Test
+    public void assertCompressAndDecompressWithoutCompression() {
+        ByteString data = ByteString.copyFrom("foo_data", StandardCharsets.UTF_8);
+        ByteString actual = RecordBatchCompressionUtil.compress(data, Compression.NONE);
+        assertThat(actual, sameInstance(data));
+        assertThat(RecordBatchCompressionUtil.decompress(actual, Compression.NONE), sameInstance(data));
+    }
+    
+    @Test
+    public void assertCompressAndDecompressWithDeflateCompression() {
+        ByteString data = ByteString.copyFrom(new byte[100000]);
+        ByteString actual = RecordBatchCompressionUtil.compress(data, Compression.DEFLATE);
+        assertTrue(actual.size() < data.size());
+        assertThat(actual, not(data));
+        assertThat(RecordBatchCompressionUtil.decompress(actual, Compression.DEFLATE), is(data));
+    }
+    
+    @Test
+    public void assertCompressAndDecompressEmptyData() {
+        ByteString actual = RecordBatchCompressionUtil.compress(ByteString.EMPTY, Compression.DEFLATE);
+        assertThat(RecordBatchCompressionUtil.decompress(actual, Compression.DEFLATE), is(ByteString.EMPTY));
+    }
+    
+    @Test
+    public void assertDecompressWithinMaxPayloadSize() {
+        ByteString data = ByteString.copyFrom(new byte[1024]);
+        assertThat(RecordBatchCompressionUtil.decompress(RecordBatchCompressionUtil.compress(data, Compression.DEFLATE), Compression.DEFLATE, 1024), is(data));
+    }
+    
+    @Test
+    public void assertDecompressExceedsMaxPayloadSize() {
+        ByteString payload = RecordBatchCompressionUtil.compress(ByteString.copyFrom(new byte[1025]), Compression.DEFLATE);
+        assertThrows(IllegalStateException.class, () -> RecordBatchCompressionUtil.decompress(payload, Compression.DEFLATE, 1024));
+    }
+}
@@ -19,7 +19,11 @@ package org.apache.shardingsphere.data.pipeline.core.execute;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.internal.InternalConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
@@ -37,6 +41,8 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -61,7 +67,8 @@ public final class ShardingSphereDataScheduleCollector {
      * Start.
      */
     public void start() {
-        dataCollectorExecutor.scheduleWithFixedDelay(new ShardingSphereDataCollectorRunnable(contextManager), 0, 30, TimeUnit.SECONDS);
+        long intervalSeconds = contextManager.getMetaDataContexts().getMetaData().getInternalProps().getValue(InternalConfigurationPropertyKey.PROXY_META_DATA_COLLECTOR_INTERVAL_SECONDS);
+        dataCollectorExecutor.scheduleWithFixedDelay(new ShardingSphereDataCollectorRunnable(contextManager), 0, intervalSeconds, TimeUnit.SECONDS);
     }
     
     @RequiredArgsConstructor
@@ -74,14 +81,35 @@ public final class ShardingSphereDataScheduleCollector {
             ShardingSphereData shardingSphereData = contextManager.getMetaDataContexts().getShardingSphereData();
             ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
             ShardingSphereData changedShardingSphereData = new ShardingSphereData();
+            List<String> proxyInstanceIds = getProxyInstanceIds();
             shardingSphereData.getDatabaseData().forEach((key, value) -> {
-                if (metaData.containsDatabase(key)) {
+                if (metaData.containsDatabase(key) && isOwnedByCurrentInstance(key, proxyInstanceIds)) {
                     collectForDatabase(key, value, metaData.getDatabases(), changedShardingSphereData);
                 }
             });
             compareUpdateAndSendEvent(shardingSphereData, changedShardingSphereData, metaData.getDatabases());
         }
         
+        private List<String> getProxyInstanceIds() {
+            InstanceContext instanceContext = contextManager.getInstanceContext();
+            if (!instanceContext.isCluster()) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(instanceContext.getAllClusterInstances()).stream()
+                    .filter(each -> InstanceType.PROXY == each.getMetaData().getType()).map(ComputeNodeInstance::getCurrentInstanceId).sorted().collect(Collectors.toList());
+        }
+        
+        private boolean isOwnedByCurrentInstance(final String databaseName, final List<String> proxyInstanceIds) {
+            if (proxyInstanceIds.isEmpty()) {
+                return true;
+            }
+            String currentInstanceId = contextManager.getInstanceContext().getInstance().getCurrentInstanceId();
+            if (!proxyInstanceIds.contains(currentInstanceId)) {
+                return true;
+            }
+            return currentInstanceId.equals(proxyInstanceIds.get(Math.floorMod(databaseName.toLowerCase().hashCode(), proxyInstanceIds.size())));
+        }
+        
         private void collectForDatabase(final String databaseName, final ShardingSphereDatabaseData databaseData,
                                         final Map<String, ShardingSphereDatabase> databases, final ShardingSphereData changedShardingSphereData) {
             databaseData.getSchemaData().forEach((key, value) -> {
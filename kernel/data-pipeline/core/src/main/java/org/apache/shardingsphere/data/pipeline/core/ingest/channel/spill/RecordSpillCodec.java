@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Record spill codec.
+ * 
+ * <p>Column values of common JDBC types are encoded into compact binary, the others and positions are kept in references and encoded as reference indexes.</p>
+ */
+public final class RecordSpillCodec {
+    
+    private static final byte REFERENCE_RECORD = 0;
+    
+    private static final byte DATA_RECORD = 1;
+    
+    private static final byte NULL = 0;
+    
+    private static final byte REFERENCE = 1;
+    
+    private static final byte STRING = 2;
+    
+    private static final byte INTEGER = 3;
+    
+    private static final byte LONG = 4;
+    
+    private static final byte SHORT = 5;
+    
+    private static final byte BYTE = 6;
+    
+    private static final byte BOOLEAN = 7;
+    
+    private static final byte DOUBLE = 8;
+    
+    private static final byte FLOAT = 9;
+    
+    private static final byte BIG_DECIMAL = 10;
+    
+    private static final byte BIG_INTEGER = 11;
+    
+    private static final byte BYTES = 12;
+    
+    private static final byte TIMESTAMP = 13;
+    
+    private static final byte DATE = 14;
+    
+    private static final byte TIME = 15;
+    
+    private static final int UPDATED_FLAG = 1;
+    
+    private static final int UNIQUE_KEY_FLAG = 2;
+    
+    /**
+     * Encode record.
+     *
+     * @param record record to be encoded
+     * @param output output
+     * @param references references of objects which could not be encoded
+     * @throws IOException IO exception
+     */
+    public void encode(final Record record, final DataOutput output, final List<Object> references) throws IOException {
+        if (DataRecord.class != record.getClass()) {
+            output.writeByte(REFERENCE_RECORD);
+            writeReference(record, output, references);
+            return;
+        }
+        DataRecord dataRecord = (DataRecord) record;
+        output.writeByte(DATA_RECORD);
+        writeReference(dataRecord.getPosition(), output, references);
+        output.writeLong(dataRecord.getCommitTime());
+        writeValue(dataRecord.getType(), output, references);
+        writeValue(dataRecord.getTableName(), output, references);
+        writeValue(dataRecord.getCsn(), output, references);
+        output.writeInt(dataRecord.getColumnCount());
+        for (Column each : dataRecord.getColumns()) {
+            writeValue(each.getName(), output, references);
+            writeValue(each.getOldValue(), output, references);
+            writeValue(each.getValue(), output, references);
+            output.writeByte((each.isUpdated() ? UPDATED_FLAG : 0) | (each.isUniqueKey() ? UNIQUE_KEY_FLAG : 0));
+        }
+    }
+    
+    private void writeReference(final Object value, final DataOutput output, final List<Object> references) throws IOException {
+        output.writeInt(references.size());
+        references.add(value);
+    }
+    
+    private void writeValue(final Object value, final DataOutput output, final List<Object> references) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (String.class == valueClass) {
+            output.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), output);
+        } else if (Integer.class == valueClass) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (Long.class == valueClass) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (Short.class == valueClass) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (Byte.class == valueClass) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (Boolean.class == valueClass) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (Double.class == valueClass) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (Float.class == valueClass) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (BigDecimal.class == valueClass) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray(), output);
+        } else if (BigInteger.class == valueClass) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray(), output);
+        } else if (byte[].class == valueClass) {
+            output.writeByte(BYTES);
+            writeBytes((byte[]) value, output);
+        } else if (Timestamp.class == valueClass) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (Date.class == valueClass) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class == valueClass) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else {
+            output.writeByte(REFERENCE);
+            writeReference(value, output, references);
+        }
+    }
+    
+    private void writeBytes(final byte[] value, final DataOutput output) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    /**
+     * Decode record.
+     *
+     * @param input input
+     * @param references references of objects which could not be encoded
+     * @return decoded record
+     */
+    public Record decode(final ByteBuffer input, final List<Object> references) {
+        if (REFERENCE_RECORD == input.get()) {
+            return (Record) references.get(input.getInt());
+        }
+        DataRecord result = new DataRecord((IngestPosition<?>) references.get(input.getInt()), 0);
+        result.setCommitTime(input.getLong());
+        result.setType((String) readValue(input, references));
+        result.setTableName((String) readValue(input, references));
+        result.setCsn((Long) readValue(input, references));
+        int columnCount = input.getInt();
+        for (int i = 0; i < columnCount; i++) {
+            String name = (String) readValue(input, references);
+            Object oldValue = readValue(input, references);
+            Object value = readValue(input, references);
+            byte flags = input.get();
+            result.addColumn(new Column(name, oldValue, value, 0 != (flags & UPDATED_FLAG), 0 != (flags & UNIQUE_KEY_FLAG)));
+        }
+        return result;
+    }
+    
+    private Object readValue(final ByteBuffer input, final List<Object> references) {
+        byte type = input.get();
+        switch (type) {
+            case NULL:
+                return null;
+            case REFERENCE:
+                return references.get(input.getInt());
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case INTEGER:
+                return input.getInt();
+            case LONG:
+                return input.getLong();
+            case SHORT:
+                return input.getShort();
+            case BYTE:
+                return input.get();
+            case BOOLEAN:
+                return 0 != input.get();
+            case DOUBLE:
+                return input.getDouble();
+            case FLOAT:
+                return input.getFloat();
+            case BIG_DECIMAL:
+                int scale = input.getInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.getLong());
+                timestamp.setNanos(input.getInt());
+                return timestamp;
+            case DATE:
+                return new Date(input.getLong());
+            case TIME:
+                return new Time(input.getLong());
+            default:
+                throw new IllegalStateException(String.format("Unknown spilled value type `%s`.", type));
+        }
+    }
+    
+    private byte[] readBytes(final ByteBuffer input) {
+        byte[] result = new byte[input.getInt()];
+        input.get(result);
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Spill implementation of pipeline channel creator.
+ */
+public final class SpillPipelineChannelCreator implements PipelineChannelCreator {
+    
+    private static final String BLOCK_QUEUE_SIZE_KEY = "block-queue-size";
+    
+    private static final String BLOCK_QUEUE_SIZE_DEFAULT_VALUE = "10000";
+    
+    private static final String SEGMENT_SIZE_KEY = "segment-size";
+    
+    private static final String SEGMENT_SIZE_DEFAULT_VALUE = String.valueOf(64 * 1024 * 1024);
+    
+    private static final String MAX_SPILL_SIZE_KEY = "max-spill-size";
+    
+    private static final String MAX_SPILL_SIZE_DEFAULT_VALUE = String.valueOf(1024L * 1024L * 1024L);
+    
+    private static final String SPILL_DIRECTORY_KEY = "spill-directory";
+    
+    private int blockQueueSize;
+    
+    private int segmentSize;
+    
+    private long maxSpillSize;
+    
+    private Path spillDirectory;
+    
+    @Override
+    public void init(final Properties props) {
+        blockQueueSize = Integer.parseInt(props.getProperty(BLOCK_QUEUE_SIZE_KEY, BLOCK_QUEUE_SIZE_DEFAULT_VALUE));
+        segmentSize = Integer.parseInt(props.getProperty(SEGMENT_SIZE_KEY, SEGMENT_SIZE_DEFAULT_VALUE));
+        maxSpillSize = Long.parseLong(props.getProperty(MAX_SPILL_SIZE_KEY, MAX_SPILL_SIZE_DEFAULT_VALUE));
+        spillDirectory = Paths.get(props.getProperty(SPILL_DIRECTORY_KEY, System.getProperty("java.io.tmpdir")));
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        return 1 == outputConcurrency
+                ? new SpillablePipelineChannel(blockQueueSize, spillDirectory, segmentSize, maxSpillSize, ackCallback)
+                : new MultiplexMemoryPipelineChannel(IntStream.range(0, outputConcurrency)
+                        .mapToObj(each -> new SpillablePipelineChannel(blockQueueSize, spillDirectory, segmentSize, maxSpillSize, ackCallback)).collect(Collectors.toList()));
+    }
+    
+    @Override
+    public String getType() {
+        return "SPILL";
+    }
+}
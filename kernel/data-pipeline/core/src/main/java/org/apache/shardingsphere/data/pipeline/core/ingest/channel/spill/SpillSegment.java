@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Segment file of spilled records.
+ * 
+ * <p>The segment file is deleted on close, records are appended by producer and read by consumer in order.</p>
+ */
+public final class SpillSegment implements AutoCloseable {
+    
+    private static final int RECORD_HEADER_LENGTH = Integer.BYTES + Integer.BYTES;
+    
+    private final FileChannel fileChannel;
+    
+    private final int segmentSize;
+    
+    private final ByteBuffer headerBuffer = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+    
+    private final List<Object> references = new ArrayList<>();
+    
+    @Getter
+    private long writtenBytes;
+    
+    private long readBytes;
+    
+    private int writtenCount;
+    
+    private int readCount;
+    
+    public SpillSegment(final Path directory, final int segmentSize) throws IOException {
+        Path file = Files.createTempFile(directory, "pipeline-spill-", ".segment");
+        fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        this.segmentSize = segmentSize;
+    }
+    
+    /**
+     * Append encoded record.
+     *
+     * @param encodedRecord encoded record
+     * @param recordReferences references of encoded record
+     * @return appended or not, false means there is not enough space in the segment
+     * @throws IOException IO exception
+     */
+    public boolean append(final ByteBuffer encodedRecord, final List<Object> recordReferences) throws IOException {
+        int length = encodedRecord.remaining();
+        if (0 != writtenCount && segmentSize - writtenBytes < RECORD_HEADER_LENGTH + length) {
+            return false;
+        }
+        headerBuffer.clear();
+        headerBuffer.putInt(references.size()).putInt(length).flip();
+        writeFully(headerBuffer, writtenBytes);
+        writeFully(encodedRecord, writtenBytes + RECORD_HEADER_LENGTH);
+        references.addAll(recordReferences);
+        writtenBytes += RECORD_HEADER_LENGTH + length;
+        writtenCount++;
+        return true;
+    }
+    
+    private void writeFully(final ByteBuffer buffer, final long position) throws IOException {
+        long currentPosition = position;
+        while (buffer.hasRemaining()) {
+            currentPosition += fileChannel.write(buffer, currentPosition);
+        }
+    }
+    
+    /**
+     * Judge whether there are unread records.
+     *
+     * @return has unread records or not
+     */
+    public boolean hasUnreadRecords() {
+        return readCount < writtenCount;
+    }
+    
+    /**
+     * Read next record.
+     *
+     * @param codec record spill codec
+     * @return record
+     * @throws IOException IO exception
+     */
+    public Record read(final RecordSpillCodec codec) throws IOException {
+        headerBuffer.clear();
+        readFully(headerBuffer, readBytes);
+        headerBuffer.flip();
+        int referenceOffset = headerBuffer.getInt();
+        int length = headerBuffer.getInt();
+        ByteBuffer encodedRecord = ByteBuffer.allocate(length);
+        readFully(encodedRecord, readBytes + RECORD_HEADER_LENGTH);
+        encodedRecord.flip();
+        readBytes += RECORD_HEADER_LENGTH + length;
+        readCount++;
+        return codec.decode(encodedRecord, references.subList(referenceOffset, references.size()));
+    }
+    
+    private void readFully(final ByteBuffer buffer, final long position) throws IOException {
+        long currentPosition = position;
+        while (buffer.hasRemaining()) {
+            int readLength = fileChannel.read(buffer, currentPosition);
+            if (readLength < 0) {
+                throw new IOException(String.format("Unexpected end of spill segment at position %d", currentPosition));
+            }
+            currentPosition += readLength;
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        references.clear();
+        fileChannel.close();
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineChannelSpillException;
+import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Spillable pipeline channel.
+ * 
+ * <p>Records are kept in memory queue at first. Once the memory queue is full, records are spilled to segment files instead of blocking producer,
+ * and all subsequent records are spilled too until the spilled records are consumed, to keep records in order.
+ * Producer is blocked only when the spilled segment files would exceed max spill size.</p>
+ */
+public final class SpillablePipelineChannel implements PipelineChannel {
+    
+    private final BlockingQueue<Record> queue;
+    
+    private final Path spillDirectory;
+    
+    private final int segmentSize;
+    
+    private final long maxSpillSize;
+    
+    private final AckCallback ackCallback;
+    
+    private final RecordSpillCodec codec = new RecordSpillCodec();
+    
+    private final LinkedList<SpillSegment> segments = new LinkedList<>();
+    
+    private final ByteArrayOutputStream encodeBuffer = new ByteArrayOutputStream();
+    
+    private long spilledRecordCount;
+    
+    private long spilledBytes;
+    
+    private boolean closed;
+    
+    public SpillablePipelineChannel(final int blockQueueSize, final Path spillDirectory, final int segmentSize, final long maxSpillSize, final AckCallback ackCallback) {
+        queue = new ArrayBlockingQueue<>(blockQueueSize);
+        this.spillDirectory = spillDirectory;
+        this.segmentSize = segmentSize;
+        this.maxSpillSize = maxSpillSize;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public synchronized void pushRecord(final Record dataRecord) {
+        Preconditions.checkState(!closed, "Can not push record because of pipeline channel already closed.");
+        if (segments.isEmpty() && queue.offer(dataRecord)) {
+            return;
+        }
+        try {
+            spill(dataRecord);
+        } catch (final IOException ex) {
+            throw new PipelineChannelSpillException(ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineChannelSpillException(ex);
+        }
+    }
+    
+    private void spill(final Record record) throws IOException, InterruptedException {
+        encodeBuffer.reset();
+        List<Object> references = new ArrayList<>();
+        codec.encode(record, new DataOutputStream(encodeBuffer), references);
+        ByteBuffer encodedRecord = ByteBuffer.wrap(encodeBuffer.toByteArray());
+        while (!closed && !segments.isEmpty() && spilledBytes + Integer.BYTES + Integer.BYTES + encodedRecord.remaining() > maxSpillSize) {
+            wait(100L);
+        }
+        Preconditions.checkState(!closed, "Can not spill record because of pipeline channel already closed.");
+        if (segments.isEmpty() || !append(segments.getLast(), encodedRecord, references)) {
+            SpillSegment segment = new SpillSegment(spillDirectory, segmentSize);
+            segments.addLast(segment);
+            append(segment, encodedRecord, references);
+        }
+        spilledRecordCount++;
+    }
+    
+    private boolean append(final SpillSegment segment, final ByteBuffer encodedRecord, final List<Object> references) throws IOException {
+        long originalWrittenBytes = segment.getWrittenBytes();
+        if (!segment.append(encodedRecord, references)) {
+            return false;
+        }
+        spilledBytes += segment.getWrittenBytes() - originalWrittenBytes;
+        return true;
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long start = System.currentTimeMillis();
+        while (batchSize > size()) {
+            if (timeoutSeconds * 1000L <= System.currentTimeMillis() - start) {
+                break;
+            }
+            ThreadUtil.sleep(100L);
+        }
+        synchronized (this) {
+            queue.drainTo(result, batchSize);
+            while (result.size() < batchSize && !segments.isEmpty()) {
+                SpillSegment segment = segments.getFirst();
+                if (segment.hasUnreadRecords()) {
+                    result.add(readRecord(segment));
+                    spilledRecordCount--;
+                } else {
+                    closeSegment(segments.removeFirst());
+                }
+            }
+            if (1 == segments.size() && !segments.getFirst().hasUnreadRecords()) {
+                closeSegment(segments.removeFirst());
+            }
+        }
+        return result;
+    }
+    
+    private Record readRecord(final SpillSegment segment) {
+        try {
+            return segment.read(codec);
+        } catch (final IOException ex) {
+            throw new PipelineChannelSpillException(ex);
+        }
+    }
+    
+    private synchronized long size() {
+        return queue.size() + spilledRecordCount;
+    }
+    
+    private void closeSegment(final SpillSegment segment) {
+        spilledBytes -= segment.getWrittenBytes();
+        notifyAll();
+        try {
+            segment.close();
+        } catch (final IOException ex) {
+            throw new PipelineChannelSpillException(ex);
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public synchronized void close() {
+        queue.clear();
+        Iterator<SpillSegment> iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            closeSegment(iterator.next());
+            iterator.remove();
+        }
+        spilledRecordCount = 0L;
+        closed = true;
+    }
+}
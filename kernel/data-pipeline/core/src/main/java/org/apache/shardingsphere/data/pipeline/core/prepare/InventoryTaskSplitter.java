@@ -262,10 +262,42 @@ public final class InventoryTaskSplitter {
     
     private Collection<IngestPosition<?>> getPositionByStringUniqueKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                             final InventoryDumperConfiguration dumperConfig) {
-        long tableRecordsCount = getTableRecordsCount(jobItemContext, dataSource, dumperConfig);
-        jobItemContext.updateInventoryRecordsCount(tableRecordsCount);
         Collection<IngestPosition<?>> result = new LinkedList<>();
-        result.add(new StringPrimaryKeyPosition(null, null));
+        PipelineSQLBuilder pipelineSQLBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobItemContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement firstPreparedStatement = connection.prepareStatement(pipelineSQLBuilder.buildSplitByUniqueKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey, true));
+                PreparedStatement nextPreparedStatement = connection.prepareStatement(pipelineSQLBuilder.buildSplitByUniqueKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey, false))) {
+            String previousEndValue = null;
+            long recordsCount = 0;
+            long rangeRecordsCount;
+            do {
+                PreparedStatement preparedStatement = null == previousEndValue ? firstPreparedStatement : nextPreparedStatement;
+                int parameterIndex = 1;
+                if (null != previousEndValue) {
+                    preparedStatement.setString(parameterIndex++, previousEndValue);
+                }
+                preparedStatement.setLong(parameterIndex, shardingSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    rangeRecordsCount = resultSet.next() ? resultSet.getLong(3) : 0L;
+                    if (rangeRecordsCount > 0L) {
+                        previousEndValue = resultSet.getString(2);
+                        result.add(new StringPrimaryKeyPosition(resultSet.getString(1), previousEndValue));
+                        recordsCount += rangeRecordsCount;
+                    }
+                }
+            } while (rangeRecordsCount >= shardingSize);
+            jobItemContext.updateInventoryRecordsCount(recordsCount);
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
+        }
+        // fix empty table missing inventory task
+        if (result.isEmpty()) {
+            result.add(new StringPrimaryKeyPosition(null, null));
+        }
         return result;
     }
     
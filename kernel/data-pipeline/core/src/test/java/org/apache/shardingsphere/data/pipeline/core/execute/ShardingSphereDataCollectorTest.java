@@ -19,11 +19,14 @@ package org.apache.shardingsphere.data.pipeline.core.execute;
 
 import org.apache.shardingsphere.data.pipeline.core.execute.ShardingSphereDataScheduleCollector.ShardingSphereDataCollectorRunnable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.data.event.ShardingSphereSchemaDataAlteredEvent;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
@@ -32,13 +35,16 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.junit.Test;
 
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,7 +59,22 @@ public final class ShardingSphereDataCollectorTest {
         when(contextManager.getMetaDataContexts().getMetaData()).thenReturn(metaData);
         when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         new ShardingSphereDataCollectorRunnable(contextManager).run();
-        verify(contextManager).getInstanceContext();
+        verify(contextManager.getInstanceContext().getEventBusContext()).post(any(ShardingSphereSchemaDataAlteredEvent.class));
+    }
+    
+    @Test
+    public void assertCollectWithDatabaseOwnedByOtherInstance() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        ShardingSphereData shardingSphereData = mockShardingSphereData();
+        when(contextManager.getMetaDataContexts().getShardingSphereData()).thenReturn(shardingSphereData);
+        ShardingSphereMetaData metaData = mockMetaData();
+        when(contextManager.getMetaDataContexts().getMetaData()).thenReturn(metaData);
+        ComputeNodeInstance currentInstance = new ComputeNodeInstance(new ProxyInstanceMetaData("bar_id", 3307));
+        when(contextManager.getInstanceContext().isCluster()).thenReturn(true);
+        when(contextManager.getInstanceContext().getInstance()).thenReturn(currentInstance);
+        when(contextManager.getInstanceContext().getAllClusterInstances()).thenReturn(Arrays.asList(new ComputeNodeInstance(new ProxyInstanceMetaData("foo_id", 3307)), currentInstance));
+        new ShardingSphereDataCollectorRunnable(contextManager).run();
+        verify(contextManager.getInstanceContext().getEventBusContext(), never()).post(any());
     }
     
     private ShardingSphereData mockShardingSphereData() {
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.nio.file.Paths;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class SpillPipelineChannelCreatorTest {
+    
+    @Test
+    public void assertInitWithProperties() throws Exception {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "SPILL",
+                PropertiesBuilder.build(new Property("block-queue-size", "200"), new Property("segment-size", "4096"),
+                        new Property("max-spill-size", "8192"), new Property("spill-directory", "/tmp/spill")));
+        assertThat(Plugins.getMemberAccessor().get(SpillPipelineChannelCreator.class.getDeclaredField("blockQueueSize"), creator), is(200));
+        assertThat(Plugins.getMemberAccessor().get(SpillPipelineChannelCreator.class.getDeclaredField("segmentSize"), creator), is(4096));
+        assertThat(Plugins.getMemberAccessor().get(SpillPipelineChannelCreator.class.getDeclaredField("maxSpillSize"), creator), is(8192L));
+        assertThat(Plugins.getMemberAccessor().get(SpillPipelineChannelCreator.class.getDeclaredField("spillDirectory"), creator), is(Paths.get("/tmp/spill")));
+    }
+    
+    @Test
+    public void assertInitWithoutProperties() throws Exception {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "SPILL");
+        assertThat(Plugins.getMemberAccessor().get(SpillPipelineChannelCreator.class.getDeclaredField("blockQueueSize"), creator), is(10000));
+        assertThat(Plugins.getMemberAccessor().get(SpillPipelineChannelCreator.class.getDeclaredField("segmentSize"), creator), is(64 * 1024 * 1024));
+        assertThat(Plugins.getMemberAccessor().get(SpillPipelineChannelCreator.class.getDeclaredField("maxSpillSize"), creator), is(1024L * 1024L * 1024L));
+        assertThat(Plugins.getMemberAccessor().get(SpillPipelineChannelCreator.class.getDeclaredField("spillDirectory"), creator), is(Paths.get(System.getProperty("java.io.tmpdir"))));
+    }
+    
+    @Test
+    public void assertCreateSpillablePipelineChannel() {
+        assertThat(TypedSPILoader.getService(PipelineChannelCreator.class, "SPILL").createPipelineChannel(1, mock(AckCallback.class)), instanceOf(SpillablePipelineChannel.class));
+    }
+    
+    @Test
+    public void assertCreateMultiplexPipelineChannel() {
+        assertThat(TypedSPILoader.getService(PipelineChannelCreator.class, "SPILL").createPipelineChannel(2, mock(AckCallback.class)), instanceOf(MultiplexMemoryPipelineChannel.class));
+    }
+}
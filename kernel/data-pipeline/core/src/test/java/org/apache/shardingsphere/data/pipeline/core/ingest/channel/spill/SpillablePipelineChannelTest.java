@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineChannelSpillException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class SpillablePipelineChannelTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertFetchRecordsInOrderWhenSpilled() {
+        SpillablePipelineChannel channel = new SpillablePipelineChannel(2, temporaryFolder.getRoot().toPath(), 256, 1024L * 1024L, mock(AckCallback.class));
+        for (int i = 0; i < 10; i++) {
+            channel.pushRecord(createDataRecord(i));
+        }
+        channel.pushRecord(new FinishedRecord(new FinishedPosition()));
+        List<Record> actual = channel.fetchRecords(4, 0);
+        assertThat(actual.size(), is(4));
+        actual.addAll(channel.fetchRecords(100, 0));
+        assertThat(actual.size(), is(11));
+        for (int i = 0; i < 10; i++) {
+            assertThat(((DataRecord) actual.get(i)).getColumn(0).getValue(), is(i));
+        }
+        assertThat(actual.get(10), instanceOf(FinishedRecord.class));
+        channel.close();
+    }
+    
+    @Test
+    public void assertPushRecordToMemoryAfterSpilledRecordsConsumed() {
+        SpillablePipelineChannel channel = new SpillablePipelineChannel(1, temporaryFolder.getRoot().toPath(), 256, 1024L * 1024L, mock(AckCallback.class));
+        channel.pushRecord(createDataRecord(0));
+        channel.pushRecord(createDataRecord(1));
+        assertThat(channel.fetchRecords(2, 0).size(), is(2));
+        PlaceholderRecord expected = new PlaceholderRecord(new PlaceholderPosition());
+        channel.pushRecord(expected);
+        assertThat(channel.fetchRecords(1, 0).get(0), sameInstance(expected));
+        channel.close();
+    }
+    
+    @Test
+    public void assertSpilledDataRecordValues() {
+        SpillablePipelineChannel channel = new SpillablePipelineChannel(1, temporaryFolder.getRoot().toPath(), 16, 1024L * 1024L, mock(AckCallback.class));
+        channel.pushRecord(createDataRecord(0));
+        IntegerPrimaryKeyPosition position = new IntegerPrimaryKeyPosition(1L, 100L);
+        DataRecord expected = new DataRecord(position, 6);
+        expected.setType("UPDATE");
+        expected.setTableName("t_order");
+        expected.setCommitTime(123L);
+        expected.addColumn(new Column("order_id", 1L, 2L, true, true));
+        expected.addColumn(new Column("amount", new BigDecimal("12.345"), true, false));
+        expected.addColumn(new Column("create_time", new Timestamp(1000L), false, false));
+        expected.addColumn(new Column("content", new byte[]{1, 2}, false, false));
+        expected.addColumn(new Column("remark", null, false, false));
+        expected.addColumn(new Column("create_date", LocalDate.of(2023, 1, 1), false, false));
+        channel.pushRecord(expected);
+        List<Record> records = channel.fetchRecords(2, 0);
+        DataRecord actual = (DataRecord) records.get(1);
+        assertThat(actual.getPosition(), sameInstance(position));
+        assertThat(actual.getType(), is("UPDATE"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getCommitTime(), is(123L));
+        assertThat(actual.getCsn(), nullValue());
+        assertThat(actual.getKey(), is(expected.getKey()));
+        assertThat(actual.getOldKey(), is(expected.getOldKey()));
+        assertThat(actual.getColumn(1).getValue(), is(new BigDecimal("12.345")));
+        assertThat(actual.getColumn(2).getValue(), is(new Timestamp(1000L)));
+        assertThat(actual.getColumn(3).getValue(), is(new byte[]{1, 2}));
+        assertThat(actual.getColumn(4).getValue(), nullValue());
+        assertThat(actual.getColumn(5).getValue(), is(LocalDate.of(2023, 1, 1)));
+        assertThat(actual.getColumn(0).isUpdated(), is(true));
+        assertThat(actual.getColumn(1).isUniqueKey(), is(false));
+        channel.close();
+    }
+    
+    @Test
+    public void assertPushRecordBlockedWhenMaxSpillSizeExceeded() throws InterruptedException {
+        SpillablePipelineChannel channel = new SpillablePipelineChannel(1, temporaryFolder.getRoot().toPath(), 256, 1L, mock(AckCallback.class));
+        channel.pushRecord(createDataRecord(0));
+        channel.pushRecord(createDataRecord(1));
+        Thread producer = new Thread(() -> channel.pushRecord(createDataRecord(2)));
+        producer.start();
+        producer.join(500L);
+        assertTrue(producer.isAlive());
+        assertThat(channel.fetchRecords(2, 0).size(), is(2));
+        producer.join(5000L);
+        assertFalse(producer.isAlive());
+        assertThat(((DataRecord) channel.fetchRecords(1, 0).get(0)).getColumn(0).getValue(), is(2));
+        channel.close();
+    }
+    
+    @Test
+    public void assertPushRecordInterruptedWhenMaxSpillSizeExceeded() throws InterruptedException {
+        SpillablePipelineChannel channel = new SpillablePipelineChannel(1, temporaryFolder.getRoot().toPath(), 256, 1L, mock(AckCallback.class));
+        channel.pushRecord(createDataRecord(0));
+        channel.pushRecord(createDataRecord(1));
+        AtomicReference<Exception> actualException = new AtomicReference<>();
+        AtomicBoolean actualInterrupted = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            try {
+                channel.pushRecord(createDataRecord(2));
+            } catch (final PipelineChannelSpillException ex) {
+                actualException.set(ex);
+                actualInterrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        producer.start();
+        producer.join(200L);
+        producer.interrupt();
+        producer.join(5000L);
+        assertThat(actualException.get().getCause(), instanceOf(InterruptedException.class));
+        assertTrue(actualInterrupted.get());
+        channel.close();
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertPushRecordAfterClosed() {
+        SpillablePipelineChannel channel = new SpillablePipelineChannel(1, temporaryFolder.getRoot().toPath(), 256, 1024L * 1024L, mock(AckCallback.class));
+        channel.close();
+        channel.pushRecord(createDataRecord(0));
+    }
+    
+    @Test
+    public void assertAck() {
+        AckCallback ackCallback = mock(AckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition()));
+        new SpillablePipelineChannel(1, temporaryFolder.getRoot().toPath(), 16, 1024L * 1024L, ackCallback).ack(records);
+        verify(ackCallback).onAck(records);
+    }
+    
+    private DataRecord createDataRecord(final int id) {
+        DataRecord result = new DataRecord(new IntegerPrimaryKeyPosition(id, id), 1);
+        result.setType("INSERT");
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", id, true, true));
+        return result;
+    }
+}
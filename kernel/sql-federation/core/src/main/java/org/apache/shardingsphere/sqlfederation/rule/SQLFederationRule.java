@@ -66,6 +66,15 @@ public final class SQLFederationRule implements GlobalRule {
         return sqlFederationExecutor;
     }
     
+    /**
+     * Get current SQL federation executor without initializing it.
+     *
+     * @return current SQL federation executor
+     */
+    public SQLFederationExecutor getCurrentSQLFederationExecutor() {
+        return sqlFederationExecutor;
+    }
+    
     @Override
     public String getType() {
         return SQLFederationRule.class.getSimpleName();
@@ -34,6 +34,7 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -46,6 +47,9 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sqlfederation.SQLFederationDataContext;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCache;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCacheValue;
 import org.apache.shardingsphere.sqlfederation.advanced.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.executor.FilterableTableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.executor.TableScanExecutorContext;
@@ -57,6 +61,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.Optimize
 import org.apache.shardingsphere.sqlfederation.optimizer.executor.TableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableSchema;
 import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationPlannerUtil;
+import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationStatisticUtil;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
 
@@ -67,6 +72,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Advanced sql federation executor.
@@ -91,6 +97,8 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
     
     private ResultSet resultSet;
     
+    private SQLFederationPlanCache planCache;
+    
     @Override
     public void init(final String databaseName, final String schemaName, final ShardingSphereMetaData metaData, final ShardingSphereData data, final JDBCExecutor jdbcExecutor) {
         this.databaseName = databaseName;
@@ -100,6 +108,10 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         this.props = metaData.getProps();
         this.data = data;
         this.jdbcExecutor = jdbcExecutor;
+        int planCacheSize = props.getValue(ConfigurationPropertyKey.SQL_FEDERATION_PLAN_CACHE_SIZE);
+        if (null == planCache || planCache.getMaximumSize() != planCacheSize) {
+            planCache = new SQLFederationPlanCache(planCacheSize);
+        }
     }
     
     @Override
@@ -111,7 +123,8 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         ShardingSphereSchema schema = database.getSchema(schemaName);
         AbstractSchema sqlFederationSchema = createSQLFederationSchema(prepareEngine, database.getProtocolType(), schema, callback, federationContext);
         Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
-        resultSet = execute((SelectStatementContext) sqlStatementContext, schema, sqlFederationSchema, params);
+        SQLFederationPlanCacheKey planCacheKey = new SQLFederationPlanCacheKey(federationContext.getQueryContext().getSql(), databaseName, schemaName, schema.getVersion());
+        resultSet = execute((SelectStatementContext) sqlStatementContext, schema, sqlFederationSchema, params, planCacheKey);
         return resultSet;
     }
     
@@ -131,22 +144,51 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         // TODO replace FilterableTableScanExecutor with TranslatableTableScanExecutor
         TableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, data);
         // TODO replace FilterableSchema with TranslatableSchema
-        return new FilterableSchema(schemaName, schema, protocolType, JAVA_TYPE_FACTORY, executor);
+        return new FilterableSchema(schemaName, schema, protocolType, JAVA_TYPE_FACTORY, executor, SQLFederationStatisticUtil.getTableRowCounts(data, databaseName));
     }
     
-    @SuppressWarnings("unchecked")
-    private ResultSet execute(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final AbstractSchema sqlFederationSchema, final Map<String, Object> params) {
+    private ResultSet execute(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final AbstractSchema sqlFederationSchema, final Map<String, Object> params,
+                              final SQLFederationPlanCacheKey planCacheKey) {
         OptimizerParserContext parserContext = optimizerContext.getParserContext(databaseName);
         CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(parserContext.getDialectProps());
         CalciteCatalogReader catalogReader = SQLFederationPlannerUtil.createCatalogReader(schemaName, sqlFederationSchema, JAVA_TYPE_FACTORY, connectionConfig);
         SqlValidator validator = SQLFederationPlannerUtil.createSqlValidator(catalogReader, JAVA_TYPE_FACTORY, parserContext.getDatabaseType(), connectionConfig);
         SqlToRelConverter converter = SQLFederationPlannerUtil.createSqlToRelConverter(catalogReader, validator,
                 SQLFederationPlannerUtil.createRelOptCluster(JAVA_TYPE_FACTORY), optimizerContext.getSqlParserRule(), parserContext.getDatabaseType(), true);
+        SQLFederationPlanCacheValue plan = getExecutablePlan(selectStatementContext, converter, planCacheKey);
+        Enumerator<Object> enumerator = plan.getExecutablePlan().bind(new SQLFederationDataContext(validator, converter, params)).enumerator();
+        return new SQLFederationResultSet(enumerator, schema, sqlFederationSchema, selectStatementContext, plan.getValidatedNodeType());
+    }
+    
+    private SQLFederationPlanCacheValue getExecutablePlan(final SelectStatementContext selectStatementContext, final SqlToRelConverter converter, final SQLFederationPlanCacheKey planCacheKey) {
+        Optional<SQLFederationPlanCacheValue> cachedPlan = planCache.isEnabled() ? planCache.get(planCacheKey) : Optional.empty();
+        if (cachedPlan.isPresent()) {
+            return cachedPlan.get();
+        }
+        long startTime = System.nanoTime();
+        SQLFederationPlanCacheValue result = createExecutablePlan(selectStatementContext, converter);
+        planCache.recordPlanning(System.nanoTime() - startTime);
+        if (planCache.isEnabled()) {
+            planCache.put(planCacheKey, result);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLFederationPlanCacheValue createExecutablePlan(final SelectStatementContext selectStatementContext, final SqlToRelConverter converter) {
         RelOptPlanner hepPlanner = optimizerContext.getPlannerContext(databaseName).getHepPlanner();
         SQLOptimizeContext optimizeContext = new SQLOptimizeEngine(converter, hepPlanner).optimize(selectStatementContext.getSqlStatement());
         Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) optimizeContext.getBestPlan(), EnumerableRel.Prefer.ARRAY);
-        Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationDataContext(validator, converter, params)).enumerator();
-        return new SQLFederationResultSet(enumerator, schema, sqlFederationSchema, selectStatementContext, optimizeContext.getValidatedNodeType());
+        return new SQLFederationPlanCacheValue(executablePlan, optimizeContext.getValidatedNodeType());
+    }
+    
+    /**
+     * Get executable plan cache.
+     *
+     * @return executable plan cache, empty if the executor is not initialized yet
+     */
+    public Optional<SQLFederationPlanCache> getPlanCache() {
+        return Optional.ofNullable(planCache);
     }
     
     @Override
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache for SQL federation executable plan.
+ */
+public final class SQLFederationPlanCache {
+    
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    
+    @Getter
+    private final int maximumSize;
+    
+    private final Cache<SQLFederationPlanCacheKey, SQLFederationPlanCacheValue> cache;
+    
+    private final Map<String, Long> schemaVersions = new ConcurrentHashMap<>();
+    
+    public SQLFederationPlanCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        cache = Caffeine.newBuilder().maximumSize(maximumSize).recordStats(() -> statsCounter).build();
+    }
+    
+    /**
+     * Judge whether plan cache is enabled.
+     *
+     * @return plan cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+    
+    /**
+     * Cache executable plan.
+     *
+     * <p>Plans cached for previous versions of the same schema are invalidated when the schema version changes.</p>
+     *
+     * @param key cache key
+     * @param value cache value
+     */
+    public void put(final SQLFederationPlanCacheKey key, final SQLFederationPlanCacheValue value) {
+        Long previousSchemaVersion = schemaVersions.put(key.getDatabaseName() + "." + key.getSchemaName(), key.getSchemaVersion());
+        if (null != previousSchemaVersion && previousSchemaVersion != key.getSchemaVersion()) {
+            cache.asMap().keySet().removeIf(each -> each.getDatabaseName().equals(key.getDatabaseName()) && each.getSchemaName().equals(key.getSchemaName())
+                    && each.getSchemaVersion() != key.getSchemaVersion());
+        }
+        cache.put(key, value);
+    }
+    
+    /**
+     * Get cached executable plan.
+     *
+     * @param key cache key
+     * @return optional cached executable plan
+     */
+    public Optional<SQLFederationPlanCacheValue> get(final SQLFederationPlanCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+    
+    /**
+     * Record planning time on cache missed.
+     *
+     * @param planningTimeNanos planning time in nanoseconds
+     */
+    public void recordPlanning(final long planningTimeNanos) {
+        statsCounter.recordLoadSuccess(planningTimeNanos);
+    }
+    
+    /**
+     * Get statistics of plan cache.
+     *
+     * <p>Hit count and miss count describe cache usage, load count and total load time describe planning of missed queries.</p>
+     *
+     * @return statistics of plan cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get estimated size of plan cache.
+     *
+     * @return estimated size of plan cache
+     */
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+    
+    /**
+     * Invalidate all cached executable plans.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        schemaVersions.clear();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.runtime.Bindable;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SQLFederationPlanCacheTest {
+    
+    private static final String SQL = "SELECT t_order.order_id, t_user.user_name FROM t_order JOIN t_user ON t_order.user_id = t_user.user_id WHERE t_order.order_id = ?";
+    
+    @Test
+    public void assertPutAndGet() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(1);
+        assertTrue(cache.isEnabled());
+        assertFalse(cache.get(createKey(SQL, 1L)).isPresent());
+        cache.put(createKey(SQL, 1L), createValue());
+        assertTrue(cache.get(createKey(SQL, 1L)).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithAlteredSchema() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(1);
+        cache.put(createKey(SQL, 1L), createValue());
+        assertFalse(cache.get(createKey(SQL, 2L)).isPresent());
+    }
+    
+    @Test
+    public void assertPutWithAlteredSchemaInvalidatesPreviousVersion() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(10);
+        cache.put(createKey(SQL, 1L), createValue());
+        cache.put(createKey("SELECT * FROM t_order", 1L), createValue());
+        cache.put(createKey(SQL, 2L), createValue());
+        assertFalse(cache.get(createKey(SQL, 1L)).isPresent());
+        assertFalse(cache.get(createKey("SELECT * FROM t_order", 1L)).isPresent());
+        assertTrue(cache.get(createKey(SQL, 2L)).isPresent());
+        assertThat(cache.getSize(), is(1L));
+    }
+    
+    @Test
+    public void assertGetStats() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(1);
+        SQLFederationPlanCacheKey key = createKey(SQL, 1L);
+        cache.get(key);
+        cache.recordPlanning(10L);
+        cache.put(key, createValue());
+        cache.get(key);
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
+        assertThat(cache.getStats().loadSuccessCount(), is(1L));
+        assertThat(cache.getStats().totalLoadTime(), is(10L));
+    }
+    
+    @Test
+    public void assertIsNotEnabled() {
+        assertFalse(new SQLFederationPlanCache(0).isEnabled());
+    }
+    
+    @Test
+    public void assertInvalidateAll() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(1);
+        SQLFederationPlanCacheKey key = createKey(SQL, 1L);
+        cache.put(key, createValue());
+        cache.invalidateAll();
+        assertFalse(cache.get(key).isPresent());
+    }
+    
+    private SQLFederationPlanCacheKey createKey(final String sql, final long schemaVersion) {
+        return new SQLFederationPlanCacheKey(sql, "foo_db", "foo_db", schemaVersion);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLFederationPlanCacheValue createValue() {
+        return new SQLFederationPlanCacheValue(mock(Bindable.class), mock(RelDataType.class));
+    }
+}
@@ -39,6 +39,7 @@ import org.apache.calcite.tools.RelBuilder;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -115,6 +116,8 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
     
     private final ShardingSphereData data;
     
+    private StreamTableScanExecutor streamTableScanExecutor;
+    
     @Override
     public Enumerable<Object> executeScalar(final ShardingSphereTable table, final ScanNodeExecutorContext scanContext) {
         return new AbstractEnumerable<Object>() {
@@ -148,6 +151,10 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
     }
     
     private AbstractEnumerable<Object[]> execute(final DatabaseType databaseType, final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        boolean streamScanEnabled = executorContext.getProps().getValue(ConfigurationPropertyKey.SQL_FEDERATION_STREAM_SCAN_ENABLED);
+        if (streamScanEnabled) {
+            return getStreamTableScanExecutor().execute(queryContext, database, context);
+        }
         ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
         try {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
@@ -167,6 +174,13 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
         }
     }
     
+    private StreamTableScanExecutor getStreamTableScanExecutor() {
+        if (null == streamTableScanExecutor) {
+            streamTableScanExecutor = new StreamTableScanExecutor(prepareEngine, jdbcExecutor, callback, executorContext.getProps());
+        }
+        return streamTableScanExecutor;
+    }
+    
     private List<QueryResult> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final DatabaseType databaseType) throws SQLException {
         Collection<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
         List<QueryResult> result = new LinkedList<>();
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.sqlfederation.row.SQLFederationStreamRowEnumerator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Stream table scan executor.
+ *
+ * <p>Scan results are read lazily, so the statements and connections of every scan are held until its enumerator is closed,
+ * which usually means until the whole federation query finishes. Some drivers such as MySQL Connector/J can not execute
+ * another statement on a connection while a streaming result set is still active on it, so the active scans on the same
+ * data sources are loaded into memory before a new scan is executed on them.</p>
+ */
+@RequiredArgsConstructor
+public final class StreamTableScanExecutor {
+    
+    private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
+    
+    private final JDBCExecutor jdbcExecutor;
+    
+    private final JDBCExecutorCallback<? extends ExecuteResult> callback;
+    
+    private final ConfigurationProperties props;
+    
+    private final Map<String, Collection<SQLFederationStreamRowEnumerator>> activeEnumerators = new HashMap<>();
+    
+    /**
+     * Execute table scan lazily.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param context execution context
+     * @return enumerable which executes table scan when enumerating
+     */
+    public AbstractEnumerable<Object[]> execute(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return executeStream(queryContext, database, context);
+            }
+        };
+    }
+    
+    private Enumerator<Object[]> executeStream(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        Collection<String> dataSourceNames = context.getExecutionUnits().stream().map(ExecutionUnit::getDataSourceName).collect(Collectors.toSet());
+        loadActiveEnumerators(dataSourceNames);
+        ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
+        try {
+            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
+                    prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
+            setParameters(executionGroupContext.getInputGroups());
+            executeProcessEngine.initializeExecution(executionGroupContext, context.getQueryContext());
+            List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
+            MergeEngine mergeEngine = new MergeEngine(database, props, new ConnectionContext());
+            MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
+            SQLFederationStreamRowEnumerator result =
+                    new SQLFederationStreamRowEnumerator(mergedResult, queryResults.get(0).getMetaData().getColumnCount(), getStatements(executionGroupContext.getInputGroups()));
+            for (String each : dataSourceNames) {
+                activeEnumerators.computeIfAbsent(each, unused -> new LinkedList<>()).add(result);
+            }
+            return result;
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        } finally {
+            executeProcessEngine.cleanExecution();
+        }
+    }
+    
+    private void loadActiveEnumerators(final Collection<String> dataSourceNames) {
+        for (String each : dataSourceNames) {
+            Collection<SQLFederationStreamRowEnumerator> enumerators = activeEnumerators.remove(each);
+            if (null != enumerators) {
+                enumerators.forEach(SQLFederationStreamRowEnumerator::load);
+            }
+        }
+    }
+    
+    private void setParameters(final Collection<ExecutionGroup<JDBCExecutionUnit>> inputGroups) {
+        for (ExecutionGroup<JDBCExecutionUnit> each : inputGroups) {
+            for (JDBCExecutionUnit executionUnit : each.getInputs()) {
+                if (!(executionUnit.getStorageResource() instanceof PreparedStatement)) {
+                    continue;
+                }
+                setParameters((PreparedStatement) executionUnit.getStorageResource(), executionUnit.getExecutionUnit().getSqlUnit().getParameters());
+            }
+        }
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void setParameters(final PreparedStatement preparedStatement, final List<Object> params) {
+        for (int i = 0; i < params.size(); i++) {
+            preparedStatement.setObject(i + 1, params.get(i));
+        }
+    }
+    
+    private Collection<Statement> getStatements(final Collection<ExecutionGroup<JDBCExecutionUnit>> inputGroups) {
+        Collection<Statement> result = new LinkedList<>();
+        for (ExecutionGroup<JDBCExecutionUnit> each : inputGroups) {
+            for (JDBCExecutionUnit executionUnit : each.getInputs()) {
+                result.add(executionUnit.getStorageResource());
+            }
+        }
+        return result;
+    }
+}
@@ -43,6 +43,7 @@ import org.apache.calcite.tools.RelBuilder;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -126,6 +127,8 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
     
     private final ShardingSphereData data;
     
+    private StreamTableScanExecutor streamTableScanExecutor;
+    
     @Override
     public Enumerable<Object> executeScalar(final ShardingSphereTable table, final ScanNodeExecutorContext scanContext) {
         String databaseName = executorContext.getDatabaseName().toLowerCase();
@@ -236,6 +239,10 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
     }
     
     private AbstractEnumerable<Object[]> execute(final DatabaseType databaseType, final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        boolean streamScanEnabled = executorContext.getProps().getValue(ConfigurationPropertyKey.SQL_FEDERATION_STREAM_SCAN_ENABLED);
+        if (streamScanEnabled) {
+            return getStreamTableScanExecutor().execute(queryContext, database, context);
+        }
         ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
         try {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
@@ -254,6 +261,13 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         }
     }
     
+    private StreamTableScanExecutor getStreamTableScanExecutor() {
+        if (null == streamTableScanExecutor) {
+            streamTableScanExecutor = new StreamTableScanExecutor(prepareEngine, jdbcExecutor, callback, executorContext.getProps());
+        }
+        return streamTableScanExecutor;
+    }
+    
     private List<QueryResult> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final DatabaseType databaseType) throws SQLException {
         Collection<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
         List<QueryResult> result = new LinkedList<>();
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * SQL federation stream row enumerator.
+ */
+public final class SQLFederationStreamRowEnumerator implements Enumerator<Object[]> {
+    
+    private final MergedResult mergedResult;
+    
+    private final int columnCount;
+    
+    private final Collection<Statement> statements;
+    
+    private Queue<Object[]> loadedRows;
+    
+    private boolean closed;
+    
+    private Object[] currentRow;
+    
+    public SQLFederationStreamRowEnumerator(final MergedResult mergedResult, final int columnCount, final Collection<Statement> statements) {
+        this.mergedResult = mergedResult;
+        this.columnCount = columnCount;
+        this.statements = statements;
+    }
+    
+    @Override
+    public Object[] current() {
+        return currentRow;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (null != loadedRows) {
+            currentRow = loadedRows.poll();
+            return null != currentRow;
+        }
+        try {
+            currentRow = mergedResult.next() ? readRow() : null;
+            return null != currentRow;
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    private Object[] readRow() throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    /**
+     * Load remaining rows into memory and release statements.
+     */
+    public void load() {
+        if (closed || null != loadedRows) {
+            return;
+        }
+        try {
+            Queue<Object[]> rows = new LinkedList<>();
+            while (mergedResult.next()) {
+                rows.add(readRow());
+            }
+            loadedRows = rows;
+            closeStatements();
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @Override
+    public void close() {
+        try {
+            if (!closed && null == loadedRows) {
+                closeStatements();
+            }
+            closed = true;
+            loadedRows = null;
+            currentRow = null;
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    private void closeStatements() throws SQLException {
+        for (Statement each : statements) {
+            each.close();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLFederationStreamRowEnumeratorTest {
+    
+    @Test
+    public void assertMoveNextAndClose() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("foo");
+        Statement statement = mock(Statement.class);
+        SQLFederationStreamRowEnumerator actual = new SQLFederationStreamRowEnumerator(mergedResult, 2, Collections.singleton(statement));
+        assertThat(actual.moveNext(), is(true));
+        assertThat(actual.current(), is(new Object[]{1, "foo"}));
+        assertThat(actual.moveNext(), is(false));
+        assertThat(actual.current(), is(nullValue()));
+        actual.close();
+        verify(statement).close();
+    }
+    
+    @Test
+    public void assertLoadRemainingRows() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2);
+        Statement statement = mock(Statement.class);
+        SQLFederationStreamRowEnumerator actual = new SQLFederationStreamRowEnumerator(mergedResult, 1, Collections.singleton(statement));
+        assertThat(actual.moveNext(), is(true));
+        assertThat(actual.current(), is(new Object[]{1}));
+        actual.load();
+        verify(statement).close();
+        assertThat(actual.moveNext(), is(true));
+        assertThat(actual.current(), is(new Object[]{2}));
+        assertThat(actual.moveNext(), is(false));
+        actual.close();
+        verify(statement).close();
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
@@ -29,8 +30,20 @@ import java.util.List;
 /**
  * Statistic of federation table.
  */
+@RequiredArgsConstructor
 public final class FederationStatistic implements Statistic {
     
+    private final Double rowCount;
+    
+    public FederationStatistic() {
+        this(null);
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL federation statistic util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticUtil {
+    
+    private static final String SHARDINGSPHERE_SCHEMA = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    private static final Cache<ShardingSphereTableData, TableRowCounts> TABLE_ROW_COUNTS_CACHE = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Get row counts of logic tables, summed over the actual data nodes collected in sharding table statistics.
+     *
+     * <p>Row counts are calculated once per version of the collected statistics and reused until the statistics are refreshed.</p>
+     *
+     * @param data ShardingSphere data
+     * @param databaseName database name
+     * @return row counts of logic tables, key is lower case logic table name
+     */
+    public static Map<String, Double> getTableRowCounts(final ShardingSphereData data, final String databaseName) {
+        Map<String, Double> result = new HashMap<>();
+        if (null == data) {
+            return result;
+        }
+        for (ShardingSphereDatabaseData each : data.getDatabaseData().values()) {
+            ShardingSphereSchemaData schemaData = each.getSchemaData().get(SHARDINGSPHERE_SCHEMA);
+            ShardingSphereTableData tableData = null == schemaData ? null : schemaData.getTable(SHARDING_TABLE_STATISTICS);
+            if (null != tableData) {
+                getTableRowCounts(tableData).getOrDefault(databaseName.toLowerCase(), Collections.emptyMap()).forEach((key, value) -> result.merge(key, value, Double::sum));
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Map<String, Double>> getTableRowCounts(final ShardingSphereTableData tableData) {
+        long version = tableData.getVersion();
+        TableRowCounts cached = TABLE_ROW_COUNTS_CACHE.getIfPresent(tableData);
+        if (null != cached && version == cached.getVersion()) {
+            return cached.getRowCounts();
+        }
+        Map<String, Map<String, Double>> result = calculateTableRowCounts(tableData);
+        TABLE_ROW_COUNTS_CACHE.put(tableData, new TableRowCounts(version, result));
+        return result;
+    }
+    
+    private static Map<String, Map<String, Double>> calculateTableRowCounts(final ShardingSphereTableData tableData) {
+        Map<String, Map<String, Double>> result = new HashMap<>();
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= ROW_COUNT_INDEX || null == row.get(LOGIC_DATABASE_NAME_INDEX) || null == row.get(LOGIC_TABLE_NAME_INDEX) || null == row.get(ROW_COUNT_INDEX)) {
+                continue;
+            }
+            double rowCount = new BigDecimal(row.get(ROW_COUNT_INDEX).toString()).doubleValue();
+            if (rowCount <= 0D) {
+                continue;
+            }
+            result.computeIfAbsent(row.get(LOGIC_DATABASE_NAME_INDEX).toString().toLowerCase(), unused -> new HashMap<>())
+                    .merge(row.get(LOGIC_TABLE_NAME_INDEX).toString().toLowerCase(), rowCount, Double::sum);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TableRowCounts {
+        
+        private final long version;
+        
+        private final Map<String, Map<String, Double>> rowCounts;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.util;
+
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SQLFederationStatisticUtilTest {
+    
+    @Test
+    public void assertGetTableRowCounts() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("10"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal("20"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "bar_db", "t_order", "ds_0", "t_order_0", new BigDecimal("30"), BigDecimal.ZERO)));
+        Map<String, Double> actual = SQLFederationStatisticUtil.getTableRowCounts(createShardingSphereData(tableData), "foo_db");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order"), is(30D));
+    }
+    
+    @Test
+    public void assertGetTableRowCountsWithNonPositiveRowCount() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", BigDecimal.ZERO, BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order_item", "ds_0", "t_order_item_0", new BigDecimal("-1"), BigDecimal.ZERO)));
+        assertThat(SQLFederationStatisticUtil.getTableRowCounts(createShardingSphereData(tableData), "foo_db").isEmpty(), is(true));
+    }
+    
+    @Test
+    public void assertGetTableRowCountsAfterStatisticsRefreshed() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("10"), BigDecimal.ZERO)));
+        ShardingSphereData data = createShardingSphereData(tableData);
+        assertThat(SQLFederationStatisticUtil.getTableRowCounts(data, "foo_db").get("t_order"), is(10D));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal("20"), BigDecimal.ZERO)));
+        assertThat(SQLFederationStatisticUtil.getTableRowCounts(data, "foo_db").get("t_order"), is(10D));
+        tableData.increaseVersion();
+        assertThat(SQLFederationStatisticUtil.getTableRowCounts(data, "foo_db").get("t_order"), is(30D));
+    }
+    
+    @Test
+    public void assertGetTableRowCountsWhenStatisticsRefreshedConcurrently() throws InterruptedException {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        ShardingSphereData data = createShardingSphereData(tableData);
+        Thread refresher = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(i, "foo_db", "t_order", "ds_0", "t_order_" + i, BigDecimal.ONE, BigDecimal.ZERO)));
+                tableData.increaseVersion();
+            }
+        });
+        refresher.start();
+        while (refresher.isAlive()) {
+            SQLFederationStatisticUtil.getTableRowCounts(data, "foo_db");
+        }
+        refresher.join();
+        assertThat(SQLFederationStatisticUtil.getTableRowCounts(data, "foo_db").get("t_order"), is(1000D));
+    }
+    
+    @Test
+    public void assertGetTableRowCountsWithoutStatistics() {
+        assertThat(SQLFederationStatisticUtil.getTableRowCounts(new ShardingSphereData(), "foo_db").isEmpty(), is(true));
+    }
+    
+    private ShardingSphereData createShardingSphereData(final ShardingSphereTableData tableData) {
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.getSchemaData().put("shardingsphere", schemaData);
+        ShardingSphereData result = new ShardingSphereData();
+        result.getDatabaseData().put("shardingsphere", databaseData);
+        return result;
+    }
+}
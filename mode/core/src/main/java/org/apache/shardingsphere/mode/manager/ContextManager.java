@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
@@ -56,6 +57,7 @@ import org.apache.shardingsphere.mode.manager.switcher.ResourceSwitchManager;
 import org.apache.shardingsphere.mode.manager.switcher.SwitchingResource;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.persist.service.schema.TableMetaDataPersistService;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -89,7 +91,8 @@ public final class ContextManager implements AutoCloseable {
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        executorEngine = ExecutorEngine.createExecutorEngineWithSizeAndMode(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                metaDataContexts.getMetaData().getProps().<KernelExecutorMode>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MODE));
     }
     
     /**
@@ -206,7 +209,7 @@ public final class ContextManager implements AutoCloseable {
     
     private synchronized void alterTable(final String databaseName, final String schemaName, final ShardingSphereTable beBoChangedTable) {
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
-        if (!containsMutableDataNodeRule(database, beBoChangedTable.getName())) {
+        if (!containsMutableDataNodeRule(database, beBoChangedTable.getName()) && !containsSingleTableDataNode(database, schemaName, beBoChangedTable.getName())) {
             database.reloadRules(MutableDataNodeRule.class);
         }
         database.getSchema(schemaName).putTable(beBoChangedTable.getName(), beBoChangedTable);
@@ -214,7 +217,7 @@ public final class ContextManager implements AutoCloseable {
     
     private synchronized void alterView(final String databaseName, final String schemaName, final ShardingSphereView beBoChangedView) {
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
-        if (!containsMutableDataNodeRule(database, beBoChangedView.getName())) {
+        if (!containsMutableDataNodeRule(database, beBoChangedView.getName()) && !containsSingleTableDataNode(database, schemaName, beBoChangedView.getName())) {
             database.reloadRules(MutableDataNodeRule.class);
         }
         database.getSchema(schemaName).putView(beBoChangedView.getName(), beBoChangedView);
@@ -225,6 +228,10 @@ public final class ContextManager implements AutoCloseable {
                 .filter(each -> !(each instanceof MutableDataNodeRule)).anyMatch(each -> each.getAllTables().contains(tableName));
     }
     
+    private boolean containsSingleTableDataNode(final ShardingSphereDatabase database, final String schemaName, final String tableName) {
+        return database.getRuleMetaData().findRules(MutableDataNodeRule.class).stream().anyMatch(each -> each.findSingleTableDataNode(schemaName, tableName).isPresent());
+    }
+    
     /**
      * Alter rule configuration.
      *
@@ -516,7 +523,7 @@ public final class ContextManager implements AutoCloseable {
      * @param schemaName schema name
      * @param tableName to be reloaded table name
      */
-    public synchronized void reloadTable(final String databaseName, final String schemaName, final String tableName) {
+    public void reloadTable(final String databaseName, final String schemaName, final String tableName) {
         Map<String, DataSource> dataSourceMap = metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources();
         try {
             reloadTable(databaseName, schemaName, tableName, dataSourceMap);
@@ -533,7 +540,7 @@ public final class ContextManager implements AutoCloseable {
      * @param dataSourceName data source name
      * @param tableName to be reloaded table name
      */
-    public synchronized void reloadTable(final String databaseName, final String schemaName, final String dataSourceName, final String tableName) {
+    public void reloadTable(final String databaseName, final String schemaName, final String dataSourceName, final String tableName) {
         Map<String, DataSource> dataSourceMap = Collections.singletonMap(
                 dataSourceName, metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName));
         try {
@@ -543,17 +550,24 @@ public final class ContextManager implements AutoCloseable {
         }
     }
     
-    private synchronized void reloadTable(final String databaseName, final String schemaName, final String tableName, final Map<String, DataSource> dataSourceMap) throws SQLException {
+    private void reloadTable(final String databaseName, final String schemaName, final String tableName, final Map<String, DataSource> dataSourceMap) throws SQLException {
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseName);
         GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(),
                 database.getResourceMetaData().getStorageTypes(), dataSourceMap, database.getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps(), schemaName);
         ShardingSphereSchema schema = GenericSchemaBuilder.build(Collections.singletonList(tableName), material).getOrDefault(schemaName, new ShardingSphereSchema());
-        if (schema.containsTable(tableName)) {
-            alterTable(databaseName, schemaName, schema.getTable(tableName));
-        } else {
+        refreshTable(databaseName, schemaName, tableName, schema.getTable(tableName));
+    }
+    
+    private synchronized void refreshTable(final String databaseName, final String schemaName, final String tableName, final ShardingSphereTable reloadedTable) {
+        String actualDatabaseName = metaDataContexts.getMetaData().getDatabase(databaseName).getName();
+        TableMetaDataPersistService tableMetaDataPersistService = metaDataContexts.getPersistService().getDatabaseMetaDataService().getTableMetaDataPersistService();
+        if (null == reloadedTable) {
             dropTable(databaseName, schemaName, tableName);
+            tableMetaDataPersistService.delete(actualDatabaseName, schemaName, tableName);
+        } else {
+            alterTable(databaseName, schemaName, reloadedTable);
+            tableMetaDataPersistService.persist(actualDatabaseName, schemaName, Collections.singletonMap(reloadedTable.getName(), reloadedTable));
         }
-        metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(database.getName(), schemaName, database.getSchema(schemaName));
     }
     
     /**
@@ -657,6 +671,7 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereTableData tableData = metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName);
         List<ShardingSphereColumn> columns = new ArrayList<>(metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getColumns().values());
         tableData.getRows().add(new YamlShardingSphereRowDataSwapper(columns).swapToObject(yamlRowData));
+        tableData.increaseVersion();
     }
     
     /**
@@ -672,7 +687,10 @@ public final class ContextManager implements AutoCloseable {
                 || !metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
             return;
         }
-        metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getRows().removeIf(each -> uniqueKey.equals(each.getUniqueKey()));
+        ShardingSphereTableData tableData = metaDataContexts.getShardingSphereData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName);
+        if (tableData.getRows().removeIf(each -> uniqueKey.equals(each.getUniqueKey()))) {
+            tableData.increaseVersion();
+        }
     }
     
     /**
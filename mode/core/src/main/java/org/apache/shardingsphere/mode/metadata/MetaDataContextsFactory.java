@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
@@ -53,6 +54,7 @@ import java.util.stream.Collectors;
  * Meta data contexts.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class MetaDataContextsFactory {
     
     /**
@@ -87,8 +89,12 @@ public final class MetaDataContextsFactory {
         checkDataSourceStates(effectiveDatabaseConfigs, storageNodes, param.isForce());
         Collection<RuleConfiguration> globalRuleConfigs = persistService.getGlobalRuleService().load();
         ConfigurationProperties props = new ConfigurationProperties(persistService.getPropsService().load());
+        long startTimeMillis = System.currentTimeMillis();
         Map<String, ShardingSphereDatabase> databases = ShardingSphereDatabasesFactory.create(effectiveDatabaseConfigs, props, instanceContext);
+        long databasesCreatedTimeMillis = System.currentTimeMillis();
         databases.putAll(reloadDatabases(databases, persistService));
+        log.info("Create {} database(s) costs {} ms, reload schemas from repository costs {} ms.",
+                databases.size(), databasesCreatedTimeMillis - startTimeMillis, System.currentTimeMillis() - databasesCreatedTimeMillis);
         ShardingSphereRuleMetaData globalMetaData = new ShardingSphereRuleMetaData(GlobalRulesBuilder.buildRules(globalRuleConfigs, databases, props));
         return new MetaDataContexts(persistService, new ShardingSphereMetaData(databases, globalMetaData, props));
     }
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.mode.persist.PersistRepository;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * ShardingSphere table row data persist service.
@@ -50,7 +52,9 @@ public final class ShardingSphereTableRowDataPersistService {
         if (rows.isEmpty()) {
             persistTable(databaseName, schemaName, tableName);
         }
-        rows.forEach(each -> repository.persist(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey()), YamlEngine.marshal(each)));
+        Map<String, String> keyValues = new LinkedHashMap<>(rows.size(), 1);
+        rows.forEach(each -> keyValues.put(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey()), YamlEngine.marshal(each)));
+        repository.batchPersist(keyValues);
     }
     
     private void persistTable(final String databaseName, final String schemaName, final String tableName) {
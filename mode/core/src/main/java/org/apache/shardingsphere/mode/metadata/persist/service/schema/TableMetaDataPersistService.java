@@ -41,8 +41,11 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
-                YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(value))));
+        Map<String, String> keyValues = new LinkedHashMap<>(tables.size(), 1);
+        YamlTableSwapper swapper = new YamlTableSwapper();
+        tables.forEach((key, value) -> keyValues.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
+                YamlEngine.marshal(swapper.swapToYamlConfiguration(value))));
+        repository.batchPersist(keyValues);
     }
     
     @Override
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.mode.persist;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -63,6 +64,15 @@ public interface PersistRepository extends TypedSPI {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * @param keyValues keys and values of data
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Update data.
      *
@@ -165,6 +165,17 @@ public final class ContextManagerTest {
         ShardingSphereTable table = contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db").getSchema("foo_schema").getTables().get("foo_tbl");
         assertThat(table.getColumns().size(), is(1));
         assertTrue(table.getColumns().containsKey("foo_col"));
+        verify(metaDataContexts.getMetaData().getDatabase("foo_db"), times(0)).reloadRules(MutableDataNodeRule.class);
+    }
+    
+    @Test
+    public void assertAlterSchemaForTableAdded() {
+        ShardingSphereSchema toBeAlteredSchema = createToBeAlteredSchema();
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getSchema("foo_schema")).thenReturn(toBeAlteredSchema);
+        ShardingSphereTable toBeAddedTable = new ShardingSphereTable("bar_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        contextManager.alterSchema("foo_db", "foo_schema", toBeAddedTable, null);
+        assertTrue(toBeAlteredSchema.containsTable("bar_tbl"));
+        verify(metaDataContexts.getMetaData().getDatabase("foo_db")).reloadRules(MutableDataNodeRule.class);
     }
     
     @Test
@@ -283,6 +294,7 @@ public final class ContextManagerTest {
         when(metaDataContexts.getPersistService()).thenReturn(persistService);
         contextManager.reloadTable("foo_db", "foo_schema", "foo_table");
         assertTrue(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db").getResourceMetaData().getDataSources().containsKey("foo_ds"));
+        verify(databaseMetaDataPersistService.getTableMetaDataPersistService()).delete(any(), eq("foo_schema"), eq("foo_table"));
     }
     
     private Map<String, Object> createProperties(final String username, final String password) {
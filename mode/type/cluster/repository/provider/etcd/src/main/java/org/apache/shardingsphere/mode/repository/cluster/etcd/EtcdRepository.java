@@ -23,6 +23,7 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -43,7 +44,11 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -52,6 +57,10 @@ import java.util.stream.Collectors;
  */
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_OPERATIONS_PER_TRANSACTION = 128;
+    
+    private static final int MAX_BYTES_PER_TRANSACTION = 1024 * 1024;
+    
     private Client client;
     
     private EtcdProperties etcdProps;
@@ -103,6 +112,39 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Map<String, String> parentKeys = new LinkedHashMap<>();
+        for (String each : keyValues.keySet()) {
+            parentKeys.putIfAbsent(each.substring(0, Math.max(each.lastIndexOf(PATH_SEPARATOR), 0)), each);
+        }
+        for (String each : parentKeys.values()) {
+            buildParentPath(each);
+        }
+        List<Op> operations = new ArrayList<>(MAX_OPERATIONS_PER_TRANSACTION);
+        int transactionBytes = 0;
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            ByteSequence key = ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8);
+            ByteSequence value = ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8);
+            int operationBytes = key.size() + value.size();
+            if (operationBytes > MAX_BYTES_PER_TRANSACTION) {
+                client.getKVClient().put(key, value).get();
+                continue;
+            }
+            if (!operations.isEmpty() && (MAX_OPERATIONS_PER_TRANSACTION == operations.size() || transactionBytes + operationBytes > MAX_BYTES_PER_TRANSACTION)) {
+                client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+                operations = new ArrayList<>(MAX_OPERATIONS_PER_TRANSACTION);
+                transactionBytes = 0;
+            }
+            operations.add(Op.put(key, value, PutOption.DEFAULT));
+            transactionBytes += operationBytes;
+        }
+        if (!operations.isEmpty()) {
+            client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         // TODO
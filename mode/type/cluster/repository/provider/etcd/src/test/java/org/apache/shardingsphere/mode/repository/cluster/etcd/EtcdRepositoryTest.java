@@ -17,15 +17,18 @@
 
 package org.apache.shardingsphere.mode.repository.cluster.etcd;
 
+import com.google.common.base.Strings;
 import com.google.protobuf.ByteString;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -48,8 +51,10 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -62,6 +67,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -216,6 +222,50 @@ public final class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @Test
+    public void assertBatchPersist() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(null));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("/parent/key1", "value1");
+        keyValues.put("/parent/key2", "value2");
+        repository.batchPersist(keyValues);
+        verify(kv).put(ByteSequence.from("/parent", StandardCharsets.UTF_8), ByteSequence.from("", StandardCharsets.UTF_8));
+        verify(txn).Then(any(Op.class), any(Op.class));
+        verify(txn).commit();
+    }
+    
+    @Test
+    public void assertBatchPersistSplitByTransactionBytes() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(null));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("/parent/key1", Strings.repeat("x", 600 * 1024));
+        keyValues.put("/parent/key2", Strings.repeat("x", 600 * 1024));
+        repository.batchPersist(keyValues);
+        verify(txn, times(2)).Then(any(Op.class));
+        verify(txn, times(2)).commit();
+    }
+    
+    @Test
+    public void assertBatchPersistWithOversizedValue() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(null));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("/parent/key1", "value1");
+        keyValues.put("/parent/key2", Strings.repeat("x", 2 * 1024 * 1024));
+        repository.batchPersist(keyValues);
+        verify(kv).put(ByteSequence.from("/parent/key2", StandardCharsets.UTF_8), ByteSequence.from(keyValues.get("/parent/key2"), StandardCharsets.UTF_8));
+        verify(txn).Then(any(Op.class));
+        verify(txn).commit();
+    }
+    
     @Test
     public void assertClose() {
         repository.close();
@@ -23,11 +23,13 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
@@ -42,16 +44,23 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -60,6 +69,10 @@ import java.util.concurrent.TimeUnit;
  */
 public final class ZookeeperRepository implements ClusterPersistRepository, InstanceContextAware {
     
+    private static final int MAX_OPERATIONS_PER_TRANSACTION = 128;
+    
+    private static final int MAX_BYTES_PER_TRANSACTION = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Builder builder = CuratorFrameworkFactory.builder();
@@ -154,6 +167,72 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try {
+            List<String> keys = new ArrayList<>(MAX_OPERATIONS_PER_TRANSACTION);
+            List<CuratorOp> operations = new ArrayList<>(MAX_OPERATIONS_PER_TRANSACTION);
+            int transactionBytes = 0;
+            for (Entry<String, Collection<String>> entry : groupByParent(keyValues.keySet()).entrySet()) {
+                Collection<String> existedChildren = getExistedChildren(entry.getKey());
+                for (String each : entry.getValue()) {
+                    byte[] data = keyValues.get(each).getBytes(StandardCharsets.UTF_8);
+                    int operationBytes = each.getBytes(StandardCharsets.UTF_8).length + data.length;
+                    if (!operations.isEmpty() && (MAX_OPERATIONS_PER_TRANSACTION == operations.size() || transactionBytes + operationBytes > MAX_BYTES_PER_TRANSACTION)) {
+                        commitTransaction(keys, operations, keyValues);
+                        keys = new ArrayList<>(MAX_OPERATIONS_PER_TRANSACTION);
+                        operations = new ArrayList<>(MAX_OPERATIONS_PER_TRANSACTION);
+                        transactionBytes = 0;
+                    }
+                    keys.add(each);
+                    operations.add(existedChildren.contains(ZKPaths.getNodeFromPath(each))
+                            ? client.transactionOp().setData().forPath(each, data)
+                            : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(each, data));
+                    transactionBytes += operationBytes;
+                }
+            }
+            if (!operations.isEmpty()) {
+                commitTransaction(keys, operations, keyValues);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private void commitTransaction(final Collection<String> keys, final List<CuratorOp> operations, final Map<String, String> keyValues) throws Exception {
+        try {
+            client.transaction().forOperations(operations);
+        } catch (final KeeperException ex) {
+            // The existence snapshot may be stale when other nodes write concurrently, persist the keys of the failed transaction one by one instead
+            for (String each : keys) {
+                persist(each, keyValues.get(each));
+            }
+        }
+    }
+    
+    private Map<String, Collection<String>> groupByParent(final Collection<String> keys) {
+        Map<String, Collection<String>> result = new LinkedHashMap<>();
+        for (String each : keys) {
+            result.computeIfAbsent(ZKPaths.getPathAndNode(each).getPath(), unused -> new LinkedList<>()).add(each);
+        }
+        return result;
+    }
+    
+    private Collection<String> getExistedChildren(final String parentKey) throws Exception {
+        if (isExisted(parentKey)) {
+            return new HashSet<>(client.getChildren().forPath(parentKey));
+        }
+        try {
+            client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(parentKey, new byte[0]);
+            return Collections.emptySet();
+        } catch (final NodeExistsException ignored) {
+            // The parent may be created by other nodes concurrently, its children have to be read again
+            return new HashSet<>(client.getChildren().forPath(parentKey));
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
+import com.google.common.base.Strings;
 import com.google.common.util.concurrent.SettableFuture;
 import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
@@ -30,6 +32,11 @@ import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
@@ -44,6 +51,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +68,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -71,6 +80,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -120,6 +130,21 @@ public final class ZookeeperRepositoryTest {
     @Mock
     private Builder builder;
     
+    @Mock
+    private TransactionOp transactionOp;
+    
+    @Mock
+    private TransactionCreateBuilder<CuratorOp> transactionCreateBuilder;
+    
+    @Mock
+    private ACLPathAndBytesable<CuratorOp> transactionCreatePathAndBytesable;
+    
+    @Mock
+    private TransactionSetDataBuilder<CuratorOp> transactionSetDataBuilder;
+    
+    @Mock
+    private CuratorMultiTransaction multiTransaction;
+    
     @BeforeEach
     public void init() {
         mockClient();
@@ -159,6 +184,11 @@ public final class ZookeeperRepositoryTest {
         when(client.delete()).thenReturn(deleteBuilder);
         when(deleteBuilder.deletingChildrenIfNeeded()).thenReturn(backgroundVersionable);
         when(client.getChildren()).thenReturn(getChildrenBuilder);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(transactionCreatePathAndBytesable);
+        when(transactionOp.setData()).thenReturn(transactionSetDataBuilder);
+        when(client.transaction()).thenReturn(multiTransaction);
     }
     
     @Test
@@ -175,6 +205,55 @@ public final class ZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @Test
+    public void assertBatchPersist() throws Exception {
+        when(existsBuilder.forPath("/batch")).thenReturn(new Stat());
+        when(getChildrenBuilder.forPath("/batch")).thenReturn(Collections.singletonList("1"));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/batch/1", "value1");
+        keyValues.put("/batch/2", "value2");
+        REPOSITORY.batchPersist(keyValues);
+        verify(multiTransaction).forOperations(anyList());
+    }
+    
+    @Test
+    public void assertBatchPersistWhenParentCreatedConcurrently() throws Exception {
+        when(protect.withMode(CreateMode.PERSISTENT)).thenReturn(protect);
+        when(protect.forPath(eq("/batch"), any(byte[].class))).thenThrow(new NodeExistsException("/batch"));
+        when(getChildrenBuilder.forPath("/batch")).thenReturn(Collections.singletonList("1"));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/batch/1", "value1");
+        keyValues.put("/batch/2", "value2");
+        REPOSITORY.batchPersist(keyValues);
+        verify(getChildrenBuilder).forPath("/batch");
+        verify(multiTransaction).forOperations(anyList());
+    }
+    
+    @Test
+    public void assertBatchPersistSplitByTransactionBytes() throws Exception {
+        when(existsBuilder.forPath("/batch")).thenReturn(new Stat());
+        when(getChildrenBuilder.forPath("/batch")).thenReturn(Collections.emptyList());
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/batch/1", Strings.repeat("x", 300 * 1024));
+        keyValues.put("/batch/2", Strings.repeat("x", 300 * 1024));
+        REPOSITORY.batchPersist(keyValues);
+        verify(multiTransaction, times(2)).forOperations(anyList());
+    }
+    
+    @Test
+    public void assertBatchPersistOneByOneWhenTransactionFailed() throws Exception {
+        when(existsBuilder.forPath("/batch")).thenReturn(new Stat());
+        when(getChildrenBuilder.forPath("/batch")).thenReturn(Collections.emptyList());
+        when(multiTransaction.forOperations(anyList())).thenThrow(new NodeExistsException("/batch/1"));
+        when(protect.withMode(CreateMode.PERSISTENT)).thenReturn(protect);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/batch/1", "value1");
+        keyValues.put("/batch/2", "value2");
+        REPOSITORY.batchPersist(keyValues);
+        verify(protect).forPath("/batch/1", "value1".getBytes(StandardCharsets.UTF_8));
+        verify(protect).forPath("/batch/2", "value2".getBytes(StandardCharsets.UTF_8));
+    }
+    
     @Test
     public void assertPersistEphemeralNotExist() throws Exception {
         when(protect.withMode(CreateMode.EPHEMERAL)).thenReturn(protect);
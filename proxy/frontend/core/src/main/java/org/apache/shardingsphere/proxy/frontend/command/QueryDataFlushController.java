@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.BackendConnection;
+
+/**
+ * Flush controller for writing query data.
+ * 
+ * <p>
+ * Query data will be flushed when the count of unflushed packets reaches flush threshold,
+ * or the bytes appended to outbound buffer since last flush reaches flush bytes threshold.
+ * Reading query data will be paused while the channel is not writable, so the memory of outbound buffer is bounded by write buffer high water mark.
+ * </p>
+ */
+public final class QueryDataFlushController {
+    
+    private final ChannelHandlerContext context;
+    
+    private final BackendConnection backendConnection;
+    
+    private final int flushThreshold;
+    
+    private final long flushBytesThreshold;
+    
+    private int unflushedCount;
+    
+    private long bytesBeforeUnwritableAtLastFlush;
+    
+    public QueryDataFlushController(final ChannelHandlerContext context, final BackendConnection backendConnection, final ConfigurationProperties props) {
+        this(context, backendConnection, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD),
+                props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD));
+    }
+    
+    public QueryDataFlushController(final ChannelHandlerContext context, final BackendConnection backendConnection, final int flushThreshold, final long flushBytesThreshold) {
+        this.context = context;
+        this.backendConnection = backendConnection;
+        this.flushThreshold = flushThreshold;
+        this.flushBytesThreshold = flushBytesThreshold;
+        bytesBeforeUnwritableAtLastFlush = context.channel().bytesBeforeUnwritable();
+    }
+    
+    /**
+     * Await until channel is writable or inactive.
+     */
+    public void awaitWritable() {
+        Channel channel = context.channel();
+        while (!channel.isWritable() && channel.isActive()) {
+            flush();
+            backendConnection.getResourceLock().doAwait();
+        }
+    }
+    
+    /**
+     * Write query data packet, and flush if necessary.
+     *
+     * @param packet query data packet
+     */
+    public void write(final DatabasePacket<?> packet) {
+        context.write(packet);
+        if (flushThreshold == ++unflushedCount || isFlushBytesThresholdReached()) {
+            flush();
+        }
+    }
+    
+    private boolean isFlushBytesThresholdReached() {
+        if (flushBytesThreshold <= 0) {
+            return false;
+        }
+        long bytesBeforeUnwritable = context.channel().bytesBeforeUnwritable();
+        if (bytesBeforeUnwritable > bytesBeforeUnwritableAtLastFlush) {
+            bytesBeforeUnwritableAtLastFlush = bytesBeforeUnwritable;
+            return false;
+        }
+        return bytesBeforeUnwritableAtLastFlush - bytesBeforeUnwritable >= flushBytesThreshold;
+    }
+    
+    private void flush() {
+        context.flush();
+        unflushedCount = 0;
+        bytesBeforeUnwritableAtLastFlush = context.channel().bytesBeforeUnwritable();
+    }
+}
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,8 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The thread of each connection could be a virtual thread, so that idle connections do not occupy platform threads.
+ * Otherwise, the thread of each connection is a non-daemon platform thread.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -57,11 +61,26 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        register(connectionId, false);
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    /**
+     * Register connection.
+     *
+     * @param connectionId connection id
+     * @param virtualThreadEnabled whether run the thread of connection on virtual thread
+     */
+    public void register(final int connectionId, final boolean virtualThreadEnabled) {
+        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId, virtualThreadEnabled));
+    }
+    
+    private ExecutorService newSingleThreadExecutorService(final int connectionId, final boolean virtualThreadEnabled) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), createThreadFactory(connectionId, virtualThreadEnabled));
+    }
+    
+    private ThreadFactory createThreadFactory(final int connectionId, final boolean virtualThreadEnabled) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        return virtualThreadEnabled && ExecutorThreadFactoryBuilder.isVirtualThreadSupported() ? ExecutorThreadFactoryBuilder.buildVirtual(threadName) : runnable -> new Thread(runnable, threadName);
     }
     
     /**
@@ -210,7 +210,7 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         }
         String database = backendHandler.getDatabaseNameByJobId(requestBody.getStreamingId());
         checkPrivileges(connectionContext.getCurrentUser().getGrantee(), database);
-        CDCResponse response = backendHandler.startStreaming(request.getRequestId(), requestBody.getStreamingId(), connectionContext, ctx.channel());
+        CDCResponse response = backendHandler.startStreaming(request.getRequestId(), requestBody.getStreamingId(), requestBody.getStreamingOption(), connectionContext, ctx.channel());
         ctx.writeAndFlush(response);
     }
     
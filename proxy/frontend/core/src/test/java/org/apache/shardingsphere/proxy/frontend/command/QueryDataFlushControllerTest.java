@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.connector.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class QueryDataFlushControllerTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @BeforeEach
+    public void setUp() {
+        when(context.channel()).thenReturn(channel);
+    }
+    
+    @Test
+    public void assertFlushByCount() {
+        QueryDataFlushController flushController = new QueryDataFlushController(context, backendConnection, 2, 0L);
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        flushController.write(packet);
+        verify(context, never()).flush();
+        flushController.write(packet);
+        verify(context).flush();
+        flushController.write(packet);
+        verify(context).flush();
+        verify(context, times(3)).write(packet);
+    }
+    
+    @Test
+    public void assertFlushByBytes() {
+        when(channel.bytesBeforeUnwritable()).thenReturn(1000L, 800L, 500L, 500L);
+        QueryDataFlushController flushController = new QueryDataFlushController(context, backendConnection, 128, 400L);
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        flushController.write(packet);
+        verify(context, never()).flush();
+        flushController.write(packet);
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertAwaitWritable() {
+        when(channel.isWritable()).thenReturn(false, true);
+        when(channel.isActive()).thenReturn(true);
+        ResourceLock resourceLock = mock(ResourceLock.class);
+        when(backendConnection.getResourceLock()).thenReturn(resourceLock);
+        new QueryDataFlushController(context, backendConnection, 128, 0L).awaitWritable();
+        verify(context).flush();
+        verify(resourceLock).doAwait();
+    }
+}
@@ -17,10 +17,19 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.junit.Test;
 
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 
 public final class ConnectionThreadExecutorGroupTest {
     
@@ -39,4 +48,33 @@ public final class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    public void assertRegisterWithPlatformThread() throws ExecutionException, InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false);
+        assertThat(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get(), is("Connection-3-ThreadExecutor"));
+        assertFalse(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().isDaemon()).get());
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
+    
+    @Test
+    public void assertRegisterWithVirtualThread() throws ExecutionException, InterruptedException {
+        assumeTrue(ExecutorThreadFactoryBuilder.isVirtualThreadSupported());
+        int connectionId = 4;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, true);
+        assertThat(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-Connection-4-ThreadExecutor"));
+        assertTrue(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().isDaemon()).get());
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
+    
+    @Test
+    public void assertRegisterWithVirtualThreadWhenVirtualThreadUnsupported() throws ExecutionException, InterruptedException {
+        assumeFalse(ExecutorThreadFactoryBuilder.isVirtualThreadSupported());
+        int connectionId = 5;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, true);
+        assertThat(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get(), is("Connection-5-ThreadExecutor"));
+        assertFalse(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().isDaemon()).get());
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import com.google.common.collect.Range;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -84,21 +85,27 @@ public final class PostgreSQLCommandExecutorFactory {
     private static List<CommandExecutor> getExecutorsOfAggregatedBatchedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket, final ConnectionSession connectionSession,
                                                                                    final PortalContext portalContext) throws SQLException {
         List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
-        int firstBindIndex = aggregatedCommandPacket.getFirstBindIndex();
-        int lastExecuteIndex = aggregatedCommandPacket.getLastExecuteIndex();
-        List<CommandExecutor> result = new ArrayList<>(firstBindIndex + packets.size() - lastExecuteIndex);
-        for (int i = 0; i < firstBindIndex; i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
-            result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
-        }
-        result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, packets.subList(firstBindIndex, lastExecuteIndex + 1)));
-        for (int i = lastExecuteIndex + 1; i < packets.size(); i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
-            result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        int index = 0;
+        for (Range<Integer> each : aggregatedCommandPacket.getBatchedStatementsRanges()) {
+            addCommandExecutors(result, packets.subList(index, each.lowerEndpoint()), connectionSession, portalContext);
+            List<PostgreSQLCommandPacket> batchedPackets = packets.subList(each.lowerEndpoint(), each.upperEndpoint() + 1);
+            List<CommandExecutor> batchedCommandExecutors = new ArrayList<>(batchedPackets.size());
+            addCommandExecutors(batchedCommandExecutors, batchedPackets, connectionSession, portalContext);
+            result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, batchedPackets, batchedCommandExecutors));
+            index = each.upperEndpoint() + 1;
         }
+        addCommandExecutors(result, packets.subList(index, packets.size()), connectionSession, portalContext);
         return result;
     }
     
+    private static void addCommandExecutors(final List<CommandExecutor> commandExecutors, final List<PostgreSQLCommandPacket> packets, final ConnectionSession connectionSession,
+                                            final PortalContext portalContext) throws SQLException {
+        for (PostgreSQLCommandPacket each : packets) {
+            commandExecutors.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
+        }
+    }
+    
     private static CommandExecutor getCommandExecutor(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket, final ConnectionSession connectionSession,
                                                       final PortalContext portalContext) throws SQLException {
         switch (commandPacketType) {
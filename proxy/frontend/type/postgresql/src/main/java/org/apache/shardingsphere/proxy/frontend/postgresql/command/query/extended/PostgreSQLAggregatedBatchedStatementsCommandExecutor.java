@@ -30,6 +30,10 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQ
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -39,6 +43,10 @@ import java.util.List;
 
 /**
  * Aggregated batched statements command executor for PostgreSQL.
+ *
+ * <p>Whether the statements are batched is decided by the SQL statement of the registered server prepared statement when executing,
+ * because the statement may be parsed by a preceding command of the same aggregated packet.
+ * Statements other than INSERT, UPDATE and DELETE are executed one by one by the given command executors.</p>
  */
 @RequiredArgsConstructor
 public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implements CommandExecutor {
@@ -47,9 +55,14 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
     
     private final List<PostgreSQLCommandPacket> packets;
     
+    private final List<CommandExecutor> commandExecutors;
+    
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
         PostgreSQLServerPreparedStatement preparedStatement = getPreparedStatement();
+        if (null == preparedStatement || !isBatchable(preparedStatement.getSqlStatementContext().getSqlStatement())) {
+            return executeOneByOne();
+        }
         PostgreSQLBatchedStatementsExecutor executor = new PostgreSQLBatchedStatementsExecutor(connectionSession, preparedStatement, readParameterSets(preparedStatement.getParameterTypes()));
         List<DatabasePacket<?>> result = new ArrayList<>(packets.size());
         int totalInserted = executor.executeBatch();
@@ -69,6 +82,22 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
         return result;
     }
     
+    private boolean isBatchable(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
+    private Collection<DatabasePacket<?>> executeOneByOne() throws SQLException {
+        List<DatabasePacket<?>> result = new LinkedList<>();
+        for (CommandExecutor each : commandExecutors) {
+            try {
+                result.addAll(each.execute());
+            } finally {
+                each.close();
+            }
+        }
+        return result;
+    }
+    
     private PostgreSQLServerPreparedStatement getPreparedStatement() {
         PostgreSQLComBindPacket bindPacket = (PostgreSQLComBindPacket) packets.get(0);
         return connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(bindPacket.getStatementId());
@@ -46,6 +46,7 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBack
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
@@ -72,6 +73,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -92,7 +95,7 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     @Test
     public void assertExecute() throws SQLException {
         ConnectionSession connectionSession = mockConnectionSession();
-        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets());
+        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets(), Collections.emptyList());
         ContextManager contextManager = mockContextManager();
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         List<DatabasePacket<?>> actualPackets = new ArrayList<>(executor.execute());
@@ -104,16 +107,27 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
         }
     }
     
+    @Test
+    public void assertExecuteOneByOneWithSelectStatement() throws SQLException {
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        when(connectionSession.getServerPreparedStatementRegistry()).thenReturn(new ServerPreparedStatementRegistry());
+        registerPreparedStatement(connectionSession, "SELECT id FROM t_order WHERE id = ?");
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        DatabasePacket<?> expectedPacket = mock(DatabasePacket.class);
+        when(commandExecutor.execute()).thenReturn(Collections.singletonList(expectedPacket));
+        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets(), Arrays.asList(commandExecutor, commandExecutor));
+        List<DatabasePacket<?>> actualPackets = new ArrayList<>(executor.execute());
+        assertThat(actualPackets.size(), is(2));
+        assertThat(actualPackets.get(0), is(expectedPacket));
+        verify(commandExecutor, times(2)).close();
+    }
+    
     private ConnectionSession mockConnectionSession() throws SQLException {
         ConnectionSession result = mock(ConnectionSession.class);
-        @SuppressWarnings("rawtypes")
-        SQLStatementContext sqlStatementContext = mock(InsertStatementContext.class);
-        when(sqlStatementContext.getSqlStatement()).thenReturn(parserEngine.parse(SQL, false));
         when(result.getDatabaseName()).thenReturn("foo_db");
         when(result.getConnectionContext()).thenReturn(new ConnectionContext());
         when(result.getServerPreparedStatementRegistry()).thenReturn(new ServerPreparedStatementRegistry());
-        result.getServerPreparedStatementRegistry().addPreparedStatement(STATEMENT_ID,
-                new PostgreSQLServerPreparedStatement(SQL, sqlStatementContext, Collections.singletonList(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4)));
+        registerPreparedStatement(result, SQL);
         when(result.getConnectionId()).thenReturn(CONNECTION_ID);
         BackendConnection backendConnection = mock(BackendConnection.class);
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
@@ -129,6 +143,14 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
         return result;
     }
     
+    private void registerPreparedStatement(final ConnectionSession connectionSession, final String sql) {
+        @SuppressWarnings("rawtypes")
+        SQLStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(parserEngine.parse(sql, false));
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(STATEMENT_ID,
+                new PostgreSQLServerPreparedStatement(sql, sqlStatementContext, Collections.singletonList(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4)));
+    }
+    
     private List<PostgreSQLCommandPacket> createPackets() {
         List<PostgreSQLCommandPacket> result = new ArrayList<>(BATCH_SIZE);
         for (int i = 0; i < BATCH_SIZE; i++) {
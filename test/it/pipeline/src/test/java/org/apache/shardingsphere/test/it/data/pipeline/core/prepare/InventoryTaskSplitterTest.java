@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.job.MigrationJobConfig
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtil;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
@@ -44,6 +45,7 @@ import java.sql.Types;
 import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -109,6 +111,29 @@ public final class InventoryTaskSplitterTest {
         inventoryTaskSplitter.splitInventoryData(jobItemContext);
     }
     
+    @Test
+    public void assertSplitInventoryDataWithVarcharPrimary() throws SQLException {
+        initVarcharPrimaryEnvironment(dumperConfig);
+        dumperConfig.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        StringPrimaryKeyPosition firstPosition = (StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is("001"));
+        assertThat(firstPosition.getEndValue(), is("010"));
+        StringPrimaryKeyPosition lastPosition = (StringPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("091"));
+        assertThat(lastPosition.getEndValue(), is("100"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithEmptyVarcharPrimaryTable() throws SQLException {
+        initEmptyVarcharPrimaryEnvironment(dumperConfig);
+        dumperConfig.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getTaskProgress().getPosition(), instanceOf(StringPrimaryKeyPosition.class));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(dumperConfig);
@@ -172,6 +197,29 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initVarcharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('%03d', 'x')", i));
+            }
+        }
+    }
+    
+    private void initEmptyVarcharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (